@@ -0,0 +1,167 @@
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+
+/**
+ * Asynchronous facade over TaskService.
+ *
+ * Every call runs on its own (virtual) thread and returns a CompletableFuture,
+ * so a caller with many independent lookups can have them all in flight at
+ * once instead of waiting for one JDBC round trip after another.
+ *
+ * A Semaphore caps how many operations touch the database at the same time.
+ * Without it, fanning out 10,000 lookups would open 10,000 connections
+ * (remember: ConnectionManager has no pool). Extra work simply waits for a
+ * permit - on a virtual thread that wait costs almost nothing.
+ *
+ * Virtual threads need JDK 21+. On JDK 17 a fixed pool of maxConcurrency
+ * platform threads is used instead: there a waiting task would block a whole
+ * platform thread, so the pool size itself is the limit and extra work waits
+ * in the pool's queue, not on a thread of its own.
+ */
+public class AsyncTaskService implements AutoCloseable {
+    private final TaskService taskService;
+    private final ExecutorService executor;
+    private final Semaphore permits;
+
+    public AsyncTaskService(TaskService taskService, int maxConcurrency) {
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("maxConcurrency must be at least 1");
+        }
+        this.taskService = taskService;
+        this.executor = newExecutor(maxConcurrency);
+        this.permits = new Semaphore(maxConcurrency);
+    }
+
+    public CompletableFuture<Task> createTask(String title, String description) {
+        return submit(() -> taskService.createTask(title, description));
+    }
+
+    public CompletableFuture<List<Task>> getAllTasks() {
+        return submit(taskService::getAllTasks);
+    }
+
+    public CompletableFuture<Optional<Task>> getTaskById(Long id) {
+        return submit(() -> taskService.getTaskById(id));
+    }
+
+    public CompletableFuture<Task> updateTaskStatus(Long id, TaskStatus newStatus) {
+        return submit(() -> taskService.updateTaskStatus(id, newStatus));
+    }
+
+    public CompletableFuture<Task> updateTask(Long id, String title, String description) {
+        return submit(() -> taskService.updateTask(id, title, description));
+    }
+
+    public CompletableFuture<Void> deleteTask(Long id) {
+        return submit(() -> {
+            taskService.deleteTask(id);
+            return null;
+        });
+    }
+
+    public CompletableFuture<List<Task>> getTasksByStatus(TaskStatus status) {
+        return submit(() -> taskService.getTasksByStatus(status));
+    }
+
+    /**
+     * Fetches many tasks concurrently.
+     *
+     * All lookups are started at once (up to the permit limit) and joined.
+     * Wall-clock time is roughly (ids / maxConcurrency) round trips instead
+     * of one round trip per id.
+     *
+     * @return found tasks keyed by id, in the order the ids were given;
+     *         ids that do not exist are left out
+     */
+    public CompletableFuture<Map<Long, Task>> getTasksByIds(Collection<Long> ids) {
+        List<CompletableFuture<Optional<Task>>> lookups = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            lookups.add(getTaskById(id));
+        }
+        return CompletableFuture.allOf(lookups.toArray(new CompletableFuture<?>[0]))
+                .thenApply(done -> {
+                    Map<Long, Task> tasks = new LinkedHashMap<>();
+                    for (CompletableFuture<Optional<Task>> lookup : lookups) {
+                        lookup.join().ifPresent(task -> tasks.put(task.getId(), task));
+                    }
+                    return tasks;
+                });
+    }
+
+    /**
+     * Changes the status of many tasks concurrently.
+     *
+     * Completes exceptionally if any single update fails (e.g. an unknown id);
+     * the other updates still run to completion.
+     */
+    public CompletableFuture<List<Task>> updateStatusForIds(Collection<Long> ids, TaskStatus newStatus) {
+        List<CompletableFuture<Task>> updates = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            updates.add(updateTaskStatus(id, newStatus));
+        }
+        return CompletableFuture.allOf(updates.toArray(new CompletableFuture<?>[0]))
+                .thenApply(done -> {
+                    List<Task> tasks = new ArrayList<>(updates.size());
+                    for (CompletableFuture<Task> update : updates) {
+                        tasks.add(update.join());
+                    }
+                    return tasks;
+                });
+    }
+
+    /**
+     * Runs one operation on its own thread while holding a permit.
+     *
+     * The permit is taken inside the task, so callers never block here.
+     */
+    private <T> CompletableFuture<T> submit(Supplier<T> operation) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                permits.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CompletionException(e);
+            }
+            try {
+                return operation.get();
+            } finally {
+                permits.release();
+            }
+        }, executor);
+    }
+
+    /**
+     * Virtual threads are JDK 21+, but this stage compiles on JDK 17,
+     * so the factory method is looked up reflectively.
+     */
+    private static ExecutorService newExecutor(int maxConcurrency) {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            // Never more threads than permits: the rest queue without a thread
+            return Executors.newFixedThreadPool(maxConcurrency, runnable -> {
+                Thread thread = new Thread(runnable, "async-task-service");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+
+    /**
+     * Stops accepting work. Operations already submitted still complete.
+     */
+    @Override
+    public void close() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,300 @@
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Load generator for the TaskService / TaskRepository stack.
+ *
+ * Drives a weighted mix of create/find/update/status/delete operations from
+ * N threads at a FIXED arrival rate and prints throughput plus p50/p99/p99.9
+ * latency per operation. Use it to compare backends (MySQL vs the embedded
+ * log store) or connection strategies under identical load.
+ *
+ * COORDINATED OMISSION:
+ * A naive load test measures "start of call -> end of call". When the system
+ * stalls, the load thread stalls with it and simply stops sending requests,
+ * so the stall shows up as ONE slow sample instead of the hundreds of
+ * requests that real users would have sent (and waited on) meanwhile.
+ *
+ * Here every operation has an intended start time on a fixed schedule.
+ * Latency is measured from that intended time, not from when the thread
+ * actually got around to it. Requests that queue behind a stall are charged
+ * for the time they spent waiting, exactly as a user would experience it.
+ *
+ * Usage:
+ *   java -cp "out:mysql-connector-j-8.0.33.jar" LoadGenerator \
+ *        --threads=32 --rate=2000 --duration=30 --warmup=5 \
+ *        --mix=create=10,find=60,update=10,status=15,delete=5 \
+ *        [--seed-tasks=1000] [--random-seed=42] [--virtual] [--data-dir=./data]
+ *
+ * --virtual requires JDK 21+. --data-dir uses LogStructuredTaskRepository
+ * instead of MySQL.
+ *
+ * REPEATABILITY:
+ * Worker i draws its operations from the i-th SplittableRandom split off
+ * --random-seed, so two runs with the same seed and --threads issue the
+ * same operation sequence per worker. With --threads=1 the target ids
+ * repeat too; with more threads they depend on how creates interleave.
+ */
+public class LoadGenerator {
+
+    enum Operation { CREATE, FIND, UPDATE, STATUS, DELETE }
+
+    private static final int ID_POOL_SIZE = 1 << 16;
+    private static final TaskStatus[] STATUSES = TaskStatus.values();
+
+    private final TaskService taskService;
+    private final Operation[] weightedOperations;
+    private final Map<Operation, LatencyHistogram> histograms = new EnumMap<>(Operation.class);
+    private final Map<Operation, AtomicLong> errors = new EnumMap<>(Operation.class);
+    // nanoTime at which the last measured operation finished
+    private final AtomicLong lastCompletion = new AtomicLong(Long.MIN_VALUE);
+
+    // Ring of recently created ids that the other operations pick targets from
+    private final AtomicLongArray idPool = new AtomicLongArray(ID_POOL_SIZE);
+    private final AtomicLong idsCreated = new AtomicLong();
+
+    private final long randomSeed;
+
+    public LoadGenerator(TaskService taskService, Map<Operation, Integer> mix, long randomSeed) {
+        this.taskService = taskService;
+        this.randomSeed = randomSeed;
+
+        List<Operation> weighted = new ArrayList<>();
+        mix.forEach((operation, weight) -> {
+            for (int i = 0; i < weight; i++) {
+                weighted.add(operation);
+            }
+        });
+        if (weighted.isEmpty()) {
+            throw new IllegalArgumentException("Operation mix must have at least one positive weight");
+        }
+        this.weightedOperations = weighted.toArray(new Operation[0]);
+
+        for (Operation operation : Operation.values()) {
+            histograms.put(operation, new LatencyHistogram());
+            errors.put(operation, new AtomicLong());
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parseOptions(args);
+        int threads = Integer.parseInt(options.getOrDefault("threads", "16"));
+        double rate = Double.parseDouble(options.getOrDefault("rate", "1000"));
+        int durationSeconds = Integer.parseInt(options.getOrDefault("duration", "30"));
+        int warmupSeconds = Integer.parseInt(options.getOrDefault("warmup", "5"));
+        int seedTasks = Integer.parseInt(options.getOrDefault("seed-tasks", "1000"));
+        long randomSeed = Long.parseLong(options.getOrDefault("random-seed", "42"));
+        boolean virtual = options.containsKey("virtual");
+        Map<Operation, Integer> mix = parseMix(
+                options.getOrDefault("mix", "create=10,find=60,update=10,status=15,delete=5"));
+
+        // Same manual wiring as Main.java
+        TaskRepository taskRepository;
+        String dataDir = options.get("data-dir");
+        if (dataDir == null) {
+            DatabaseConfig config = new DatabaseConfig("localhost", "taskmanager", "root", "password");
+            taskRepository = new JdbcTaskRepository(new ConnectionManager(config));
+        } else {
+            taskRepository = new LogStructuredTaskRepository(Path.of(dataDir));
+        }
+        TaskService taskService = new TaskService(taskRepository);
+
+        LoadGenerator generator = new LoadGenerator(taskService, mix, randomSeed);
+        try {
+            System.out.printf("Backend: %s, threads: %d (%s), target rate: %.0f ops/s, mix: %s, random seed: %d%n",
+                    taskRepository.getClass().getSimpleName(), threads,
+                    virtual ? "virtual" : "platform", rate, mix, randomSeed);
+            generator.seed(seedTasks);
+            generator.run(threads, virtual, rate, warmupSeconds, durationSeconds);
+        } finally {
+            if (taskRepository instanceof LogStructuredTaskRepository logRepository) {
+                logRepository.close();
+            }
+        }
+    }
+
+    /**
+     * Creates initial tasks so find/update/delete have something to hit.
+     */
+    public void seed(int count) {
+        for (int i = 0; i < count; i++) {
+            remember(taskService.createTask("Seed task " + i, "Created by LoadGenerator").getId());
+        }
+    }
+
+    /**
+     * Runs the load and prints the report.
+     *
+     * Each worker owns every threads-th slot of one global schedule, so the
+     * combined arrival rate is exactly the target regardless of thread count.
+     */
+    public void run(int threads, boolean virtual, double rate, int warmupSeconds, int durationSeconds)
+            throws Exception {
+        long intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / rate);
+        long start = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(100);
+        long measureStart = start + TimeUnit.SECONDS.toNanos(warmupSeconds);
+        long end = measureStart + TimeUnit.SECONDS.toNanos(durationSeconds);
+
+        ExecutorService executor = virtual ? newVirtualThreadExecutor() : Executors.newFixedThreadPool(threads);
+        List<Future<?>> workers = new ArrayList<>();
+        // Splits are taken in worker order, so worker i always gets the same stream
+        SplittableRandom seeds = new SplittableRandom(randomSeed);
+        for (int worker = 0; worker < threads; worker++) {
+            int slot = worker;
+            SplittableRandom random = seeds.split();
+            workers.add(executor.submit(() -> runWorker(slot, threads, random, intervalNanos, start, measureStart, end)));
+        }
+        for (Future<?> future : workers) {
+            future.get();
+        }
+        executor.shutdown();
+
+        printReport(measureStart, rate);
+    }
+
+    private void runWorker(int slot, int threads, SplittableRandom random,
+                           long intervalNanos, long start, long measureStart, long end) {
+        for (long k = 0; ; k++) {
+            long intended = start + (k * threads + slot) * intervalNanos;
+            if (intended >= end) {
+                return;
+            }
+            waitUntil(intended);
+
+            Operation operation = weightedOperations[random.nextInt(weightedOperations.length)];
+            boolean failed = false;
+            try {
+                execute(operation, random);
+            } catch (RuntimeException e) {
+                failed = true;
+            }
+
+            // Measured from the INTENDED start: this is the coordinated-omission fix
+            if (intended >= measureStart) {
+                long completed = System.nanoTime();
+                histograms.get(operation).record(completed - intended);
+                lastCompletion.accumulateAndGet(completed, Math::max);
+                if (failed) {
+                    errors.get(operation).incrementAndGet();
+                }
+            }
+        }
+    }
+
+    private void execute(Operation operation, SplittableRandom random) {
+        switch (operation) {
+            case CREATE -> remember(taskService.createTask("Load task", "Created by LoadGenerator").getId());
+            case FIND -> taskService.getTaskById(pickId(random));
+            case UPDATE -> taskService.updateTask(pickId(random), "Updated by LoadGenerator", null);
+            case STATUS -> taskService.updateTaskStatus(pickId(random), STATUSES[random.nextInt(STATUSES.length)]);
+            case DELETE -> taskService.deleteTask(pickId(random));
+        }
+    }
+
+    private void remember(long id) {
+        long n = idsCreated.getAndIncrement();
+        idPool.set((int) (n % ID_POOL_SIZE), id);
+    }
+
+    private long pickId(SplittableRandom random) {
+        long known = Math.min(idsCreated.get(), ID_POOL_SIZE);
+        if (known == 0) {
+            throw new IllegalStateException("No tasks to operate on");
+        }
+        return idPool.get(random.nextInt((int) known));
+    }
+
+    private static void waitUntil(long deadline) {
+        long remaining;
+        while ((remaining = deadline - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+
+    // Only operations scheduled inside the measurement window are counted.
+    // Throughput divides them by the time it took to FINISH them: if the
+    // service falls behind, the last one completes after the window closed
+    // and the achieved rate drops below the target.
+    private void printReport(long measureStart, double targetRate) {
+        long last = lastCompletion.get();
+        double seconds = last == Long.MIN_VALUE ? 0 : Math.max(last - measureStart, 1) / 1e9;
+        long totalOps = 0;
+
+        System.out.println();
+        System.out.printf("%-8s %10s %8s %10s %10s %10s %10s %10s%n",
+                "op", "count", "errors", "ops/s", "p50 ms", "p99 ms", "p99.9 ms", "max ms");
+        for (Operation operation : Operation.values()) {
+            LatencyHistogram histogram = histograms.get(operation);
+            long count = histogram.getTotalCount();
+            totalOps += count;
+            if (count == 0) {
+                continue;
+            }
+            System.out.printf("%-8s %10d %8d %10.1f %10.3f %10.3f %10.3f %10.3f%n",
+                    operation, count, errors.get(operation).get(), count / seconds,
+                    millis(histogram.getValueAtPercentile(50)),
+                    millis(histogram.getValueAtPercentile(99)),
+                    millis(histogram.getValueAtPercentile(99.9)),
+                    millis(histogram.getMaxValue()));
+        }
+        System.out.printf("%nTotal: %d ops in %.2f s = %.1f ops/s achieved (target %.1f ops/s)%n",
+                totalOps, seconds, totalOps / seconds, targetRate);
+        System.out.println("Latencies are measured from each operation's scheduled start time.");
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    /**
+     * Virtual threads are JDK 21+, but this stage compiles on JDK 17,
+     * so the factory method is looked up reflectively.
+     */
+    private static ExecutorService newVirtualThreadExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("--virtual requires JDK 21 or newer", e);
+        }
+    }
+
+    private static Map<String, String> parseOptions(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--")) {
+                throw new IllegalArgumentException("Unexpected argument: " + arg);
+            }
+            int eq = arg.indexOf('=');
+            if (eq < 0) {
+                options.put(arg.substring(2), "true");
+            } else {
+                options.put(arg.substring(2, eq), arg.substring(eq + 1));
+            }
+        }
+        return options;
+    }
+
+    private static Map<Operation, Integer> parseMix(String spec) {
+        Map<Operation, Integer> mix = new EnumMap<>(Operation.class);
+        for (String part : spec.split(",")) {
+            String[] pair = part.split("=");
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("Invalid mix entry: " + part);
+            }
+            mix.put(Operation.valueOf(pair[0].trim().toUpperCase()), Integer.parseInt(pair[1].trim()));
+        }
+        return mix;
+    }
+}
@@ -0,0 +1,586 @@
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * Embedded, durable Task storage backed by an append-only log of mutations.
+ *
+ * No database server is needed. The layout inside the data directory is:
+ *
+ *   tasks.snapshot          full image of all tasks up to some log generation
+ *   tasks-000...0042.log    binary log of PUT/DELETE records after that image
+ *
+ * HOW IT WORKS:
+ * 1. Writes are encoded as one framed record [length][crc32][payload] and
+ *    appended sequentially to the current log file. No random I/O.
+ * 2. Durability uses group commit: a writer appends, then waits until an
+ *    fsync covers its record. The thread that performs the fsync covers
+ *    every record appended so far, so concurrent writers share one fsync.
+ * 3. Reads never touch the disk. All live tasks are kept in a memory index.
+ * 4. On startup the index is rebuilt from the snapshot plus the log tail.
+ *    A torn record at the end of the last log (crash mid-write) fails its
+ *    checksum and is truncated away.
+ * 5. A background thread compacts: it rotates to a fresh log, writes a new
+ *    snapshot of the index, then deletes the logs the snapshot covers.
+ *
+ * Compare with JdbcTaskRepository: every read there is a network round trip.
+ */
+public class LogStructuredTaskRepository implements TaskRepository, AutoCloseable {
+
+    private static final int SNAPSHOT_MAGIC = 0x54534B53; // "TSKS"
+    private static final byte OP_PUT = 1;
+    private static final byte OP_DELETE = 2;
+    private static final String SNAPSHOT_FILE = "tasks.snapshot";
+    private static final long DEFAULT_COMPACTION_THRESHOLD = 16L * 1024 * 1024;
+
+    private static final Comparator<Task> NEWEST_FIRST =
+            Comparator.comparing(Task::getCreatedAt).thenComparing(Task::getId).reversed();
+
+    private final Path directory;
+    private final long compactionThresholdBytes;
+    private final Map<Long, Task> index = new ConcurrentHashMap<>();
+    private final AtomicLong nextId = new AtomicLong(1);
+    private final ScheduledExecutorService compactor;
+
+    // Guarded by writeMonitor: the active log, its position and the append sequence.
+    private final Object writeMonitor = new Object();
+    private FileChannel log;
+    private long generation;
+    private long logBytes;
+    private long appendedSeq;
+    // Set when a torn write could not be cut off: appending after it would be lost
+    private IOException writeFailure;
+
+    // Guarded by syncMonitor: how far the log is known to be on disk.
+    // Lock order is always syncMonitor -> writeMonitor.
+    private final Object syncMonitor = new Object();
+    private long durableSeq;
+
+    private final Object compactionMonitor = new Object();
+
+    public LogStructuredTaskRepository(Path directory) {
+        this(directory, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    public LogStructuredTaskRepository(Path directory, long compactionThresholdBytes) {
+        this.directory = directory;
+        this.compactionThresholdBytes = compactionThresholdBytes;
+        try {
+            Files.createDirectories(directory);
+            recover();
+        } catch (IOException e) {
+            throw new RuntimeException("Error opening task store in " + directory, e);
+        }
+
+        this.compactor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "task-log-compactor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        compactor.scheduleWithFixedDelay(this::compactIfNeeded, 5, 5, TimeUnit.SECONDS);
+    }
+
+    // ------------------------------------------------------------------
+    // TaskRepository
+    // ------------------------------------------------------------------
+
+    @Override
+    public Task save(Task task) {
+        long id = nextId.getAndIncrement();
+        Task stored = copyOf(task);
+        stored.setId(id);
+        byte[] record = encodePut(stored);
+
+        long seq;
+        synchronized (writeMonitor) {
+            seq = appendLocked(record);
+            index.put(id, stored);
+        }
+        awaitDurable(seq);
+
+        task.setId(id);
+        return task;
+    }
+
+    @Override
+    public Optional<Task> findById(Long id) {
+        Task task = index.get(id);
+        return task == null ? Optional.empty() : Optional.of(copyOf(task));
+    }
+
+    @Override
+    public List<Task> findAll() {
+        List<Task> tasks = new ArrayList<>(index.size());
+        for (Task task : index.values()) {
+            tasks.add(copyOf(task));
+        }
+        tasks.sort(NEWEST_FIRST);
+        return tasks;
+    }
+
+    @Override
+    public Task update(Task task) {
+        Task stored = copyOf(task);
+        byte[] record = encodePut(stored);
+
+        long seq;
+        synchronized (writeMonitor) {
+            // Checked under the write lock so a concurrent delete cannot be undone
+            if (!index.containsKey(task.getId())) {
+                throw new RuntimeException("Error updating task: " + task.getId());
+            }
+            seq = appendLocked(record);
+            index.put(stored.getId(), stored);
+        }
+        awaitDurable(seq);
+        return task;
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        byte[] record = encodeDelete(id);
+
+        long seq;
+        synchronized (writeMonitor) {
+            if (!index.containsKey(id)) {
+                return;
+            }
+            seq = appendLocked(record);
+            index.remove(id);
+        }
+        awaitDurable(seq);
+    }
+
+    @Override
+    public List<Task> findByStatus(TaskStatus status) {
+        List<Task> tasks = new ArrayList<>();
+        for (Task task : index.values()) {
+            if (task.getStatus() == status) {
+                tasks.add(copyOf(task));
+            }
+        }
+        tasks.sort(NEWEST_FIRST);
+        return tasks;
+    }
+
+    // ------------------------------------------------------------------
+    // Write path: sequential append + group commit
+    // ------------------------------------------------------------------
+
+    /**
+     * Appends one record to the active log. Caller must hold writeMonitor and
+     * apply the same change to the index before releasing it, so the order
+     * of records in the log always matches the order of index changes.
+     *
+     * @return the record's sequence number, to pass to awaitDurable
+     */
+    private long appendLocked(byte[] payload) {
+        if (writeFailure != null) {
+            throw new IllegalStateException("Task log is unusable after a failed write", writeFailure);
+        }
+        ByteBuffer frame = frame(payload);
+        try {
+            while (frame.hasRemaining()) {
+                log.write(frame);
+            }
+        } catch (IOException e) {
+            discardTornFrameLocked(e);
+            throw new RuntimeException("Error writing task log", e);
+        }
+        logBytes += frame.capacity();
+        return ++appendedSeq;
+    }
+
+    /**
+     * Cuts a partly written frame off the log. Recovery stops at the first
+     * torn record, so anything appended after the garbage would be silently
+     * lost on restart. If even that fails, no further appends are accepted.
+     */
+    private void discardTornFrameLocked(IOException cause) {
+        try {
+            log.truncate(logBytes);
+            log.position(logBytes);
+        } catch (IOException e) {
+            cause.addSuppressed(e);
+            writeFailure = cause;
+        }
+    }
+
+    /**
+     * Group commit. Only one thread fsyncs at a time; it covers everything
+     * appended so far. Threads queued behind it usually find their record
+     * already durable and return without another fsync.
+     *
+     * Must be called WITHOUT holding writeMonitor.
+     */
+    private void awaitDurable(long seq) {
+        synchronized (syncMonitor) {
+            if (durableSeq >= seq) {
+                return;
+            }
+            long target;
+            FileChannel channel;
+            synchronized (writeMonitor) {
+                target = appendedSeq;
+                channel = log;
+            }
+            try {
+                channel.force(false);
+            } catch (IOException e) {
+                throw new RuntimeException("Error syncing task log", e);
+            }
+            durableSeq = target;
+        }
+    }
+
+    private static ByteBuffer frame(byte[] payload) {
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+        ByteBuffer frame = ByteBuffer.allocate(8 + payload.length);
+        frame.putInt(payload.length);
+        frame.putInt((int) crc.getValue());
+        frame.put(payload);
+        frame.flip();
+        return frame;
+    }
+
+    // ------------------------------------------------------------------
+    // Compaction
+    // ------------------------------------------------------------------
+
+    private void compactIfNeeded() {
+        long bytes;
+        synchronized (writeMonitor) {
+            bytes = logBytes;
+        }
+        if (bytes < compactionThresholdBytes) {
+            return;
+        }
+        try {
+            compact();
+        } catch (RuntimeException e) {
+            System.err.println("Warning: Task log compaction failed: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Rotates to a new log generation, snapshots the index as of the rotation
+     * point and removes the logs the snapshot now covers.
+     *
+     * Writers are only blocked for the rotation and the in-memory copy; the
+     * snapshot itself is written outside the locks.
+     */
+    public void compact() {
+        synchronized (compactionMonitor) {
+            Map<Long, Task> image;
+            long snapshotGeneration;
+            long snapshotNextId;
+            try {
+                synchronized (syncMonitor) {
+                    synchronized (writeMonitor) {
+                        log.force(false);
+                        log.close();
+                        durableSeq = appendedSeq;
+                        generation++;
+                        log = openLog(generation);
+                        logBytes = 0;
+                        image = new HashMap<>(index);
+                        snapshotGeneration = generation;
+                        snapshotNextId = nextId.get();
+                    }
+                }
+                writeSnapshot(image, snapshotGeneration, snapshotNextId);
+                deleteLogsBefore(snapshotGeneration);
+            } catch (IOException e) {
+                throw new RuntimeException("Error compacting task log", e);
+            }
+        }
+    }
+
+    private void writeSnapshot(Map<Long, Task> image, long firstLogGeneration, long snapshotNextId)
+            throws IOException {
+        Path temp = directory.resolve(SNAPSHOT_FILE + ".tmp");
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            DataOutputStream out = new DataOutputStream(
+                    new BufferedOutputStream(Channels.newOutputStream(channel), 64 * 1024));
+            out.writeInt(SNAPSHOT_MAGIC);
+            out.writeLong(firstLogGeneration);
+            out.writeLong(snapshotNextId);
+            out.writeInt(image.size());
+            for (Task task : image.values()) {
+                ByteBuffer frame = frame(encodePut(task));
+                out.write(frame.array(), 0, frame.limit());
+            }
+            out.flush();
+            channel.force(true);
+        }
+        Files.move(temp, directory.resolve(SNAPSHOT_FILE),
+                StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private void deleteLogsBefore(long firstLiveGeneration) throws IOException {
+        for (long logGeneration : listLogGenerations()) {
+            if (logGeneration < firstLiveGeneration) {
+                Files.deleteIfExists(logPath(logGeneration));
+            }
+        }
+    }
+
+    // ------------------------------------------------------------------
+    // Recovery
+    // ------------------------------------------------------------------
+
+    private void recover() throws IOException {
+        long firstLogGeneration = loadSnapshot();
+        deleteLogsBefore(firstLogGeneration);
+
+        List<Long> generations = listLogGenerations();
+        if (generations.isEmpty()) {
+            generation = firstLogGeneration;
+            log = openLog(generation);
+            logBytes = 0;
+            return;
+        }
+
+        for (int i = 0; i < generations.size(); i++) {
+            boolean last = i == generations.size() - 1;
+            long validBytes = replayLog(logPath(generations.get(i)), last);
+            if (last) {
+                generation = generations.get(i);
+                log = openLog(generation);
+                if (log.size() > validBytes) {
+                    System.err.println("Warning: Truncating torn record at end of " + logPath(generation));
+                    log.truncate(validBytes);
+                    log.force(false);
+                }
+                log.position(validBytes);
+                logBytes = validBytes;
+            }
+        }
+    }
+
+    /**
+     * Loads tasks.snapshot into the index.
+     *
+     * @return the first log generation NOT contained in the snapshot
+     */
+    private long loadSnapshot() throws IOException {
+        Path snapshot = directory.resolve(SNAPSHOT_FILE);
+        if (!Files.exists(snapshot)) {
+            return 1;
+        }
+        try (DataInputStream in = new DataInputStream(
+                new BufferedInputStream(Files.newInputStream(snapshot), 64 * 1024))) {
+            if (in.readInt() != SNAPSHOT_MAGIC) {
+                throw new IOException("Not a task snapshot: " + snapshot);
+            }
+            long firstLogGeneration = in.readLong();
+            nextId.set(in.readLong());
+            int count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                byte[] payload = readFrame(in);
+                if (payload == null) {
+                    throw new IOException("Corrupt task snapshot: " + snapshot);
+                }
+                applyRecord(payload);
+            }
+            return firstLogGeneration;
+        }
+    }
+
+    /**
+     * Replays one log file into the index.
+     *
+     * @return the number of bytes holding complete, valid records
+     */
+    private long replayLog(Path path, boolean tolerateTornTail) throws IOException {
+        long validBytes = 0;
+        try (DataInputStream in = new DataInputStream(
+                new BufferedInputStream(Files.newInputStream(path), 64 * 1024))) {
+            while (true) {
+                byte[] payload = readFrame(in);
+                if (payload == null) {
+                    break;
+                }
+                applyRecord(payload);
+                validBytes += 8 + payload.length;
+            }
+        }
+        if (!tolerateTornTail && validBytes != Files.size(path)) {
+            throw new IOException("Corrupt task log: " + path);
+        }
+        return validBytes;
+    }
+
+    /**
+     * Reads one [length][crc32][payload] frame.
+     *
+     * @return the payload, or null at end of file or on a torn/corrupt frame
+     */
+    private static byte[] readFrame(DataInputStream in) throws IOException {
+        try {
+            int length = in.readInt();
+            int checksum = in.readInt();
+            if (length < 0 || length > 64 * 1024 * 1024) {
+                return null;
+            }
+            byte[] payload = new byte[length];
+            in.readFully(payload);
+            CRC32 crc = new CRC32();
+            crc.update(payload);
+            return (int) crc.getValue() == checksum ? payload : null;
+        } catch (EOFException e) {
+            return null;
+        }
+    }
+
+    private void applyRecord(byte[] payload) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload));
+        byte op = in.readByte();
+        long id = in.readLong();
+        if (op == OP_PUT) {
+            String title = readString(in);
+            String description = readString(in);
+            TaskStatus status = TaskStatus.valueOf(readString(in));
+            LocalDateTime createdAt = LocalDateTime.ofEpochSecond(in.readLong(), in.readInt(), ZoneOffset.UTC);
+            index.put(id, new Task(id, title, description, status, createdAt));
+        } else if (op == OP_DELETE) {
+            index.remove(id);
+        } else {
+            throw new IOException("Unknown task log record type: " + op);
+        }
+        if (id >= nextId.get()) {
+            nextId.set(id + 1);
+        }
+    }
+
+    // ------------------------------------------------------------------
+    // Record encoding
+    // ------------------------------------------------------------------
+
+    private static byte[] encodePut(Task task) {
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(64);
+            DataOutputStream out = new DataOutputStream(bytes);
+            out.writeByte(OP_PUT);
+            out.writeLong(task.getId());
+            writeString(out, task.getTitle());
+            writeString(out, task.getDescription());
+            writeString(out, task.getStatus().name());
+            out.writeLong(task.getCreatedAt().toEpochSecond(ZoneOffset.UTC));
+            out.writeInt(task.getCreatedAt().getNano());
+            return bytes.toByteArray();
+        } catch (IOException e) {
+            throw new RuntimeException("Error encoding task", e);
+        }
+    }
+
+    private static byte[] encodeDelete(long id) {
+        return ByteBuffer.allocate(9).put(OP_DELETE).putLong(id).array();
+    }
+
+    // Length-prefixed UTF-8; unlike writeUTF this has no 64KB limit and allows null.
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    // ------------------------------------------------------------------
+    // Files and helpers
+    // ------------------------------------------------------------------
+
+    private FileChannel openLog(long logGeneration) throws IOException {
+        FileChannel channel = FileChannel.open(logPath(logGeneration),
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        channel.position(channel.size());
+        return channel;
+    }
+
+    private Path logPath(long logGeneration) {
+        return directory.resolve(String.format("tasks-%019d.log", logGeneration));
+    }
+
+    private List<Long> listLogGenerations() throws IOException {
+        List<Long> generations = new ArrayList<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            files.map(path -> path.getFileName().toString())
+                    .filter(name -> name.startsWith("tasks-") && name.endsWith(".log"))
+                    .forEach(name -> generations.add(
+                            Long.parseLong(name.substring("tasks-".length(), name.length() - ".log".length()))));
+        }
+        generations.sort(null);
+        return generations;
+    }
+
+    // The index holds private copies so callers mutating a returned Task
+    // (TaskService does this before calling update) cannot bypass the log.
+    private static Task copyOf(Task task) {
+        return new Task(task.getId(), task.getTitle(), task.getDescription(),
+                task.getStatus(), task.getCreatedAt());
+    }
+
+    /**
+     * Stops background compaction and closes the log. Everything returned
+     * from a write method is already on disk, so nothing is lost here.
+     */
+    @Override
+    public void close() {
+        compactor.shutdown();
+        synchronized (compactionMonitor) {
+            synchronized (syncMonitor) {
+                synchronized (writeMonitor) {
+                    try {
+                        log.force(false);
+                        log.close();
+                    } catch (IOException e) {
+                        System.err.println("Warning: Error closing task log: " + e.getMessage());
+                    }
+                }
+            }
+        }
+    }
+}
@@ -1,3 +1,5 @@
+import java.nio.file.Path;
+
 /**
  * Application entry point.
  *
@@ -40,6 +42,10 @@
  *    Every change requires modifying this file.
  *
  * In Stage 3, Spring will handle all of this automatically.
+ *
+ * Running with --data-dir=<path> swaps the MySQL repository for the
+ * embedded LogStructuredTaskRepository (no database server needed).
+ * Notice that even this one switch has to be hand-coded here.
  */
 public class Main {
     public static void main(String[] args) {
@@ -58,11 +64,17 @@ public class Main {
                 "password"      // password - CHANGE THIS
         );
 
-        // Step 2: Create connection manager (depends on config)
-        ConnectionManager connectionManager = new ConnectionManager(config);
-
-        // Step 3: Create repository (depends on connection manager)
-        TaskRepository taskRepository = new TaskRepository(connectionManager);
+        // Step 2 + 3: Create connection manager (depends on config)
+        // and repository (depends on connection manager)
+        // PAIN: Choosing an implementation is an if/else we maintain by hand
+        String dataDir = dataDirArgument(args);
+        TaskRepository taskRepository;
+        if (dataDir == null) {
+            ConnectionManager connectionManager = new ConnectionManager(config);
+            taskRepository = new JdbcTaskRepository(connectionManager);
+        } else {
+            taskRepository = new LogStructuredTaskRepository(Path.of(dataDir));
+        }
 
         // Step 4: Create service (depends on repository)
         TaskService taskService = new TaskService(taskRepository);
@@ -97,6 +109,19 @@ public class Main {
         } catch (Exception e) {
             System.err.println("Fatal error: " + e.getMessage());
             e.printStackTrace();
+        } finally {
+            if (taskRepository instanceof LogStructuredTaskRepository logRepository) {
+                logRepository.close();
+            }
+        }
+    }
+
+    private static String dataDirArgument(String[] args) {
+        for (String arg : args) {
+            if (arg.startsWith("--data-dir=")) {
+                return arg.substring("--data-dir=".length());
+            }
         }
+        return null;
     }
 }
@@ -0,0 +1,82 @@
+package com.example.taskmanager.benchmark;
+
+import com.example.taskmanager.model.Task;
+import com.example.taskmanager.repository.ConnectionManager;
+import com.example.taskmanager.repository.TaskRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bulk loading: save() in a loop versus saveAll() with JDBC batching.
+ *
+ * Uses today's per-call ConnectionManager, because that is what a bulk
+ * import through save() really pays for. The table is recreated before
+ * every iteration so it does not grow across the run.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms2g", "-Xmx2g", "-XX:+UseParallelGC", "-XX:+AlwaysPreTouch"})
+@Threads(1)
+@State(Scope.Thread)
+public class BulkInsertBenchmark {
+
+    @Param({"1000", "10000"})
+    public int batchSize;
+
+    private EmbeddedDatabase database;
+    private TaskRepository repository;
+
+    @Setup(Level.Iteration)
+    public void setUp() throws SQLException {
+        database = new EmbeddedDatabase("bulk_" + batchSize);
+        ConnectionManager connectionManager = ConnectionStrategy.PER_CALL
+                .create(database.getUrl(), EmbeddedDatabase.USERNAME, EmbeddedDatabase.PASSWORD);
+        repository = new TaskRepository(connectionManager);
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() throws SQLException {
+        database.close();
+    }
+
+    @Benchmark
+    public List<Task> saveOneByOne() {
+        List<Task> tasks = newTasks();
+        for (Task task : tasks) {
+            repository.save(task);
+        }
+        return tasks;
+    }
+
+    @Benchmark
+    public List<Task> saveAll() {
+        return repository.saveAll(newTasks());
+    }
+
+    private List<Task> newTasks() {
+        List<Task> tasks = new ArrayList<>(batchSize);
+        for (int i = 0; i < batchSize; i++) {
+            tasks.add(new Task("Imported task " + i, "Bulk loaded by JMH"));
+        }
+        return tasks;
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.taskmanager.benchmark;
+
+import com.example.taskmanager.repository.ConnectionManager;
+
+import java.sql.SQLException;
+
+/**
+ * The connection handling variants being compared.
+ */
+public enum ConnectionStrategy {
+
+    /** What the application does today: DriverManager.getConnection() per repository call. */
+    PER_CALL,
+
+    /** One connection kept open and reused by every call. */
+    REUSED_CONNECTION,
+
+    /** One connection plus one cached PreparedStatement per SQL string. */
+    REUSED_STATEMENTS;
+
+    public ConnectionManager create(String url, String username, String password) throws SQLException {
+        return switch (this) {
+            case PER_CALL -> new ConnectionManager(url, username, password);
+            case REUSED_CONNECTION -> new ReusingConnectionManager(url, username, password, false);
+            case REUSED_STATEMENTS -> new ReusingConnectionManager(url, username, password, true);
+        };
+    }
+}
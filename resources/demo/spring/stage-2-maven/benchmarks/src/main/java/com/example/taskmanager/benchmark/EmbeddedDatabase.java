@@ -0,0 +1,84 @@
+package com.example.taskmanager.benchmark;
+
+import com.example.taskmanager.model.TaskStatus;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.SplittableRandom;
+
+/**
+ * In-memory H2 database with the same tasks table as the MySQL setup.
+ *
+ * The database lives as long as the holder connection stays open, so the
+ * PER_CALL strategy can open and close its own connections freely.
+ */
+public class EmbeddedDatabase implements AutoCloseable {
+    public static final String USERNAME = "sa";
+    public static final String PASSWORD = "";
+
+    private static final int SEED_BATCH_SIZE = 5_000;
+    private static final TaskStatus[] STATUSES = TaskStatus.values();
+
+    private final String url;
+    private final Connection holder;
+
+    public EmbeddedDatabase(String name) throws SQLException {
+        this.url = "jdbc:h2:mem:" + name + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE";
+        this.holder = DriverManager.getConnection(url, USERNAME, PASSWORD);
+        try (Statement statement = holder.createStatement()) {
+            statement.execute("""
+                    CREATE TABLE tasks (
+                        id BIGINT AUTO_INCREMENT PRIMARY KEY,
+                        title VARCHAR(100) NOT NULL,
+                        description TEXT,
+                        status VARCHAR(20) DEFAULT 'PENDING',
+                        created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+                    )""");
+        }
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    /**
+     * Inserts tasks with ids 1..count. Content is generated from a fixed
+     * random seed, so every run benchmarks exactly the same data.
+     */
+    public void seed(int count, long randomSeed) throws SQLException {
+        SplittableRandom random = new SplittableRandom(randomSeed);
+        LocalDateTime base = LocalDateTime.of(2024, 1, 1, 0, 0);
+        String sql = "INSERT INTO tasks (title, description, status, created_at) VALUES (?, ?, ?, ?)";
+
+        holder.setAutoCommit(false);
+        try (PreparedStatement ps = holder.prepareStatement(sql)) {
+            for (int i = 1; i <= count; i++) {
+                ps.setString(1, "Task " + i);
+                ps.setString(2, "Seeded description for task " + i);
+                ps.setString(3, STATUSES[random.nextInt(STATUSES.length)].name());
+                ps.setTimestamp(4, Timestamp.valueOf(base.plusSeconds(random.nextInt(365 * 24 * 3600))));
+                ps.addBatch();
+                if (i % SEED_BATCH_SIZE == 0) {
+                    ps.executeBatch();
+                }
+            }
+            ps.executeBatch();
+            holder.commit();
+        } finally {
+            holder.setAutoCommit(true);
+        }
+    }
+
+    @Override
+    public void close() throws SQLException {
+        try (Statement statement = holder.createStatement()) {
+            statement.execute("SHUTDOWN");
+        }
+        holder.close();
+    }
+}
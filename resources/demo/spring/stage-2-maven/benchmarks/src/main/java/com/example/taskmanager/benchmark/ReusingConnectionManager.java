@@ -0,0 +1,114 @@
+package com.example.taskmanager.benchmark;
+
+import com.example.taskmanager.repository.ConnectionManager;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ConnectionManager that hands out ONE long-lived connection instead of
+ * opening a new one per call - a connection pool of size one.
+ *
+ * TaskRepository closes every connection it gets (try-with-resources), so the
+ * connection is wrapped in a proxy whose close() does nothing. With
+ * cacheStatements enabled, prepareStatement() also returns the same
+ * PreparedStatement for the same SQL, like a pool's statement cache.
+ *
+ * Not thread-safe: one instance per benchmark thread.
+ */
+public class ReusingConnectionManager extends ConnectionManager {
+    private final Connection connection;
+    private final Connection sharedConnection;
+    private final boolean cacheStatements;
+    private final Map<List<Object>, PreparedStatement> statementCache = new HashMap<>();
+
+    public ReusingConnectionManager(String url, String username, String password, boolean cacheStatements)
+            throws SQLException {
+        super(url, username, password);
+        this.connection = DriverManager.getConnection(url, username, password);
+        this.cacheStatements = cacheStatements;
+        this.sharedConnection = (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(), new Class<?>[]{Connection.class}, new ConnectionHandler());
+    }
+
+    @Override
+    public Connection getConnection() {
+        return sharedConnection;
+    }
+
+    /**
+     * Really closes the connection and every cached statement.
+     */
+    public void shutdown() throws SQLException {
+        for (PreparedStatement statement : statementCache.values()) {
+            statement.close();
+        }
+        statementCache.clear();
+        connection.close();
+    }
+
+    private class ConnectionHandler implements InvocationHandler {
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close":
+                    return null;
+                case "prepareStatement":
+                    if (cacheStatements) {
+                        return cachedStatement(method, args);
+                    }
+                    break;
+                default:
+                    break;
+            }
+            return invokeTarget(connection, method, args);
+        }
+
+        private PreparedStatement cachedStatement(Method method, Object[] args) throws Throwable {
+            List<Object> key = List.of(args);
+            PreparedStatement statement = statementCache.get(key);
+            if (statement == null) {
+                PreparedStatement target = (PreparedStatement) invokeTarget(connection, method, args);
+                statement = (PreparedStatement) Proxy.newProxyInstance(
+                        PreparedStatement.class.getClassLoader(), new Class<?>[]{PreparedStatement.class},
+                        new StatementHandler(target));
+                statementCache.put(key, statement);
+            }
+            statement.clearParameters();
+            return statement;
+        }
+    }
+
+    private static class StatementHandler implements InvocationHandler {
+        private final PreparedStatement target;
+
+        StatementHandler(PreparedStatement target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (method.getName().equals("close")) {
+                return null;
+            }
+            return invokeTarget(target, method, args);
+        }
+    }
+
+    private static Object invokeTarget(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
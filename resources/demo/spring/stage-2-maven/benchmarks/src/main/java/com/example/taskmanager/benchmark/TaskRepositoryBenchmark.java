@@ -0,0 +1,118 @@
+package com.example.taskmanager.benchmark;
+
+import com.example.taskmanager.model.Task;
+import com.example.taskmanager.model.TaskStatus;
+import com.example.taskmanager.repository.ConnectionManager;
+import com.example.taskmanager.repository.TaskRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CRUD benchmarks for the stage 2 TaskRepository against embedded H2.
+ *
+ * Every method is measured for each combination of:
+ * - taskCount: rows in the table before the run
+ * - strategy:  how TaskRepository gets its connections (see ConnectionStrategy)
+ *
+ * The setup is pinned so numbers are comparable between runs: fixed heap and
+ * GC, fixed fork/warmup/measurement counts, fixed random seeds for the seed
+ * data and for the ids each benchmark touches.
+ *
+ * findAll and findByStatus materialize the whole (or a quarter of the) table,
+ * so at 1M rows they measure mapping and allocation more than round trips.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms2g", "-Xmx2g", "-XX:+UseParallelGC", "-XX:+AlwaysPreTouch"})
+@Threads(1)
+@State(Scope.Thread)
+public class TaskRepositoryBenchmark {
+
+    private static final long DATA_SEED = 42L;
+    private static final long ACCESS_SEED = 7L;
+    private static final TaskStatus[] STATUSES = TaskStatus.values();
+
+    @Param({"10000", "100000", "1000000"})
+    public int taskCount;
+
+    @Param({"PER_CALL", "REUSED_CONNECTION", "REUSED_STATEMENTS"})
+    public ConnectionStrategy strategy;
+
+    private EmbeddedDatabase database;
+    private ConnectionManager connectionManager;
+    private TaskRepository repository;
+    private SplittableRandom random;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        database = new EmbeddedDatabase("bench_" + strategy + "_" + taskCount);
+        database.seed(taskCount, DATA_SEED);
+        connectionManager = strategy.create(database.getUrl(), EmbeddedDatabase.USERNAME, EmbeddedDatabase.PASSWORD);
+        repository = new TaskRepository(connectionManager);
+        random = new SplittableRandom(ACCESS_SEED);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        if (connectionManager instanceof ReusingConnectionManager reusing) {
+            reusing.shutdown();
+        }
+        database.close();
+    }
+
+    @Benchmark
+    public Optional<Task> findById() {
+        return repository.findById(randomId());
+    }
+
+    @Benchmark
+    public List<Task> findByStatus() {
+        return repository.findByStatus(STATUSES[random.nextInt(STATUSES.length)]);
+    }
+
+    @Benchmark
+    public List<Task> findAll() {
+        return repository.findAll();
+    }
+
+    @Benchmark
+    public Task update() {
+        Task task = new Task(randomId(), "Updated title", "Updated description",
+                STATUSES[random.nextInt(STATUSES.length)], null);
+        return repository.update(task);
+    }
+
+    /**
+     * Insert followed by delete, so the table size stays at taskCount.
+     */
+    @Benchmark
+    public Task saveThenDelete() {
+        Task task = repository.save(new Task("Benchmark task", "Inserted by JMH"));
+        repository.deleteById(task.getId());
+        return task;
+    }
+
+    private long randomId() {
+        return 1 + random.nextInt(taskCount);
+    }
+}
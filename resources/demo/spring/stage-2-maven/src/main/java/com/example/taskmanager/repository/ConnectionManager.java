@@ -24,13 +24,26 @@ public class ConnectionManager {
         String port = props.getProperty("db.port", "3306");
         String dbName = props.getProperty("db.name", "taskmanager");
 
-        this.url = String.format("jdbc:mysql://%s:%s/%s", host, port, dbName);
+        // rewriteBatchedStatements lets the driver send a JDBC batch of INSERTs
+        // as multi-row INSERT ... VALUES (...),(...) statements (see saveAll)
+        this.url = String.format("jdbc:mysql://%s:%s/%s?rewriteBatchedStatements=true", host, port, dbName);
         this.username = props.getProperty("db.username", "root");
         this.password = props.getProperty("db.password", "password");
 
         loadDriver();
     }
 
+    /**
+     * Uses an explicit JDBC URL instead of db.properties.
+     * The driver is found by JDBC's service loader, so any database works
+     * (the benchmarks module uses this with an embedded H2 database).
+     */
+    public ConnectionManager(String url, String username, String password) {
+        this.url = url;
+        this.username = username;
+        this.password = password;
+    }
+
     private Properties loadProperties() {
         Properties props = new Properties();
         try (InputStream input = getClass().getClassLoader()
@@ -15,6 +15,8 @@ import java.util.Optional;
  * Stage 5 (Spring Data JPA) will eliminate most of this code.
  */
 public class TaskRepository {
+    private static final int BATCH_SIZE = 1000;
+
     private final ConnectionManager connectionManager;
 
     public TaskRepository(ConnectionManager connectionManager) {
@@ -46,6 +48,65 @@ public class TaskRepository {
         }
     }
 
+    /**
+     * Inserts many tasks with JDBC batching: one connection, one statement,
+     * one transaction, and one round trip per BATCH_SIZE rows instead of per
+     * row. Generated ids are set back on every task.
+     *
+     * Either all tasks are saved or none (the transaction is rolled back).
+     */
+    public List<Task> saveAll(List<Task> tasks) {
+        if (tasks.isEmpty()) {
+            return tasks;
+        }
+        String sql = "INSERT INTO tasks (title, description, status, created_at) VALUES (?, ?, ?, ?)";
+
+        try (Connection conn = connectionManager.getConnection()) {
+            boolean autoCommit = conn.getAutoCommit();
+            conn.setAutoCommit(false);
+
+            try (PreparedStatement ps = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+                for (int start = 0; start < tasks.size(); start += BATCH_SIZE) {
+                    List<Task> chunk = tasks.subList(start, Math.min(start + BATCH_SIZE, tasks.size()));
+
+                    for (Task task : chunk) {
+                        ps.setString(1, task.getTitle());
+                        ps.setString(2, task.getDescription());
+                        ps.setString(3, task.getStatus().name());
+                        ps.setTimestamp(4, Timestamp.valueOf(task.getCreatedAt()));
+                        ps.addBatch();
+                    }
+                    ps.executeBatch();
+
+                    // Keys come back in the same order the rows were added
+                    try (ResultSet rs = ps.getGeneratedKeys()) {
+                        for (Task task : chunk) {
+                            if (!rs.next()) {
+                                throw new SQLException("Missing generated key for batched task insert");
+                            }
+                            task.setId(rs.getLong(1));
+                        }
+                    }
+                }
+                conn.commit();
+                return tasks;
+
+            } catch (SQLException | RuntimeException e) {
+                // Any failure (also e.g. an NPE from a task without status) must roll
+                // back here: restoring auto-commit below would commit the executed chunks
+                conn.rollback();
+                // Nothing was saved, so no task keeps an id from a rolled-back chunk
+                tasks.forEach(task -> task.setId(null));
+                throw e;
+            } finally {
+                conn.setAutoCommit(autoCommit);
+            }
+
+        } catch (SQLException e) {
+            throw new RuntimeException("Error saving tasks", e);
+        }
+    }
+
     public Optional<Task> findById(Long id) {
         String sql = "SELECT * FROM tasks WHERE id = ?";
 
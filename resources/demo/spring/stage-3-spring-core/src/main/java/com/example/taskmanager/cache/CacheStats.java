@@ -0,0 +1,19 @@
+package com.example.taskmanager.cache;
+
+/**
+ * Counters for one cache since startup.
+ */
+public record CacheStats(String cacheName, int size, long hits, long misses, long evictions) {
+
+    public long requests() {
+        return hits + misses;
+    }
+
+    /**
+     * Fraction of lookups answered from the cache (0.0 - 1.0).
+     */
+    public double hitRatio() {
+        long requests = requests();
+        return requests == 0 ? 0.0 : (double) hits / requests;
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.taskmanager.cache;
+
+/**
+ * Approximate access counts for the TinyLFU admission policy.
+ *
+ * A count-min sketch of 4-bit counters: each key hashes to one counter in
+ * each of 4 rows and its frequency is the smallest of the 4. Counters are
+ * packed 16 per long, so tracking the popularity of N keys costs about
+ * N * 8 bytes regardless of how many distinct keys are ever seen.
+ *
+ * Counters saturate at 15. After 10 * maximumSize increments every counter
+ * is halved, so old popularity fades and the sketch follows changing
+ * workloads ("aging").
+ *
+ * Not thread-safe; TinyLfuCache calls it under its own lock.
+ */
+class FrequencySketch {
+    private static final long[] SEEDS = {
+            0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L};
+    private static final long RESET_MASK = 0x7777777777777777L;
+
+    private final long[] table;
+    private final int tableMask;
+    private final int sampleSize;
+    private int additions;
+
+    FrequencySketch(long maximumSize) {
+        int length = Integer.highestOneBit((int) Math.max(8, Math.min(maximumSize, 1 << 24)) - 1) << 1;
+        this.table = new long[length];
+        this.tableMask = length - 1;
+        this.sampleSize = (int) Math.min(10L * Math.max(maximumSize, 1), Integer.MAX_VALUE);
+    }
+
+    void increment(Object key) {
+        int hash = spread(key.hashCode());
+        int start = (hash & 3) << 2;
+        boolean added = false;
+        for (int row = 0; row < 4; row++) {
+            added |= incrementAt(indexOf(hash, row), start + row);
+        }
+        if (added && ++additions >= sampleSize) {
+            reset();
+        }
+    }
+
+    int frequency(Object key) {
+        int hash = spread(key.hashCode());
+        int start = (hash & 3) << 2;
+        int frequency = Integer.MAX_VALUE;
+        for (int row = 0; row < 4; row++) {
+            int shift = (start + row) << 2;
+            frequency = Math.min(frequency, (int) ((table[indexOf(hash, row)] >>> shift) & 0xfL));
+        }
+        return frequency;
+    }
+
+    private boolean incrementAt(int index, int counter) {
+        int shift = counter << 2;
+        long mask = 0xfL << shift;
+        if ((table[index] & mask) != mask) {
+            table[index] += 1L << shift;
+            return true;
+        }
+        return false;
+    }
+
+    private void reset() {
+        for (int i = 0; i < table.length; i++) {
+            table[i] = (table[i] >>> 1) & RESET_MASK;
+        }
+        additions /= 2;
+    }
+
+    private int indexOf(int hash, int row) {
+        long h = (hash + SEEDS[row]) * SEEDS[row];
+        h += h >>> 32;
+        return (int) h & tableMask;
+    }
+
+    private static int spread(int hash) {
+        hash = ((hash >>> 16) ^ hash) * 0x45d9f3b;
+        hash = ((hash >>> 16) ^ hash) * 0x45d9f3b;
+        return (hash >>> 16) ^ hash;
+    }
+}
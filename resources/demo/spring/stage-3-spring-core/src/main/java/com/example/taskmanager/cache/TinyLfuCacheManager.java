@@ -0,0 +1,68 @@
+package com.example.taskmanager.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.io.PrintStream;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Spring CacheManager that creates TinyLfuCache instances.
+ *
+ * Each cache name can get its own size and TTL through withCache(...).
+ * Names used in @Cacheable that were not configured get the defaults.
+ */
+public class TinyLfuCacheManager implements CacheManager {
+
+    private final Map<String, TinyLfuCache> caches = new ConcurrentHashMap<>();
+    private final int defaultMaximumSize;
+    private final Duration defaultTtl;
+
+    public TinyLfuCacheManager(int defaultMaximumSize, Duration defaultTtl) {
+        this.defaultMaximumSize = defaultMaximumSize;
+        this.defaultTtl = defaultTtl;
+    }
+
+    /**
+     * Registers a cache with its own limits. Null values are not allowed:
+     * callers keep "not found" out of the cache with unless = "#result == null".
+     */
+    public TinyLfuCacheManager withCache(String name, int maximumSize, Duration ttl) {
+        caches.put(name, new TinyLfuCache(name, maximumSize, ttl, false));
+        return this;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        return caches.computeIfAbsent(name, n -> new TinyLfuCache(n, defaultMaximumSize, defaultTtl, false));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return Collections.unmodifiableSet(caches.keySet());
+    }
+
+    public List<CacheStats> getStats() {
+        List<CacheStats> stats = new ArrayList<>();
+        for (TinyLfuCache cache : caches.values()) {
+            stats.add(cache.getStats());
+        }
+        return stats;
+    }
+
+    public void printReport(PrintStream out) {
+        out.println("\n--- Cache Statistics ---");
+        out.printf("%-16s %8s %10s %10s %10s %9s%n", "cache", "size", "hits", "misses", "evictions", "hit ratio");
+        for (CacheStats stats : getStats()) {
+            out.printf("%-16s %8d %10d %10d %10d %8.1f%%%n",
+                    stats.cacheName(), stats.size(), stats.hits(), stats.misses(),
+                    stats.evictions(), stats.hitRatio() * 100);
+        }
+    }
+}
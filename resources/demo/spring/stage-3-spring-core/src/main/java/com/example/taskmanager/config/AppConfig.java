@@ -1,5 +1,6 @@
 package com.example.taskmanager.config;
 
+import com.example.taskmanager.metrics.EnableTiming;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.PropertySource;
@@ -12,10 +13,12 @@ import org.springframework.context.annotation.PropertySource;
  * @Configuration - Marks this as a Spring configuration class
  * @ComponentScan - Tells Spring where to look for @Component classes
  * @PropertySource - Loads external properties file
+ * @EnableTiming - Records latency of @Timed beans with an AOP aspect
  */
 @Configuration
 @ComponentScan("com.example.taskmanager")
 @PropertySource("classpath:db.properties")
+@EnableTiming
 public class AppConfig {
     /*
      * With @ComponentScan, Spring automatically finds and registers:
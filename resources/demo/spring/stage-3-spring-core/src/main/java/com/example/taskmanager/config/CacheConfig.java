@@ -0,0 +1,38 @@
+package com.example.taskmanager.config;
+
+import com.example.taskmanager.cache.TinyLfuCacheManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Caching configuration.
+ *
+ * @EnableCaching - Activates @Cacheable / @CacheEvict on Spring beans
+ *
+ * Picked up by AppConfig's @ComponentScan like any other @Configuration.
+ * Sizes and TTLs can be overridden in db.properties.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String TASKS = "tasks";
+    public static final String TASKS_BY_STATUS = "tasksByStatus";
+
+    @Bean
+    public TinyLfuCacheManager cacheManager(
+            @Value("${cache.tasks.maximum-size:10000}") int tasksMaximumSize,
+            @Value("${cache.tasks.ttl-seconds:600}") long tasksTtlSeconds,
+            @Value("${cache.tasks-by-status.ttl-seconds:60}") long byStatusTtlSeconds) {
+
+        return new TinyLfuCacheManager(1000, Duration.ofMinutes(10))
+                // One entry per task id
+                .withCache(TASKS, tasksMaximumSize, Duration.ofSeconds(tasksTtlSeconds))
+                // One entry per TaskStatus value, so a handful of lists
+                .withCache(TASKS_BY_STATUS, 16, Duration.ofSeconds(byStatusTtlSeconds));
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.taskmanager.metrics;
+
+import org.springframework.context.annotation.Import;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Turns on @Timed latency recording.
+ *
+ * Put it on a @Configuration class. It imports TimingConfiguration, which
+ * registers the TimingAspect and the LatencyRegistry that holds the results.
+ * Remove it and @Timed methods run with no proxy and zero overhead.
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Import(TimingConfiguration.class)
+public @interface EnableTiming {
+}
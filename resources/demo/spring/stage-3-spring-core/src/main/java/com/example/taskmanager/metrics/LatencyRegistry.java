@@ -0,0 +1,79 @@
+package com.example.taskmanager.metrics;
+
+import java.io.PrintStream;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Holds one LatencyHistogram per @Timed method and reports percentiles.
+ *
+ * Inject this bean anywhere to read the numbers, or call printReport()
+ * for a console table (Main does this on exit).
+ */
+public class LatencyRegistry {
+
+    private final Map<Method, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+
+    /**
+     * Called by TimingAspect on every invocation. The plain get() keeps the
+     * common case free of computeIfAbsent's locking.
+     */
+    LatencyHistogram histogramFor(Method method) {
+        LatencyHistogram histogram = histograms.get(method);
+        if (histogram == null) {
+            histogram = histograms.computeIfAbsent(method, m -> new LatencyHistogram());
+        }
+        return histogram;
+    }
+
+    /**
+     * Latency summary of every method called so far, slowest p99 first.
+     */
+    public List<MethodLatency> getLatencies() {
+        List<MethodLatency> latencies = new ArrayList<>();
+        histograms.forEach((method, histogram) -> {
+            LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+            latencies.add(new MethodLatency(
+                    method.getDeclaringClass().getSimpleName() + "." + method.getName(),
+                    snapshot.getCount(),
+                    snapshot.getMeanNanos(),
+                    snapshot.getValueAtPercentile(50),
+                    snapshot.getValueAtPercentile(95),
+                    snapshot.getValueAtPercentile(99),
+                    snapshot.getMaxNanos()));
+        });
+        latencies.sort(Comparator.comparingLong(MethodLatency::p99Nanos).reversed());
+        return latencies;
+    }
+
+    public void printReport(PrintStream out) {
+        List<MethodLatency> latencies = getLatencies();
+        if (latencies.isEmpty()) {
+            out.println("No @Timed methods were called.");
+            return;
+        }
+        out.println("\n--- Method Latency (ms) ---");
+        out.printf("%-36s %8s %9s %9s %9s %9s %9s%n", "method", "calls", "mean", "p50", "p95", "p99", "max");
+        for (MethodLatency latency : latencies) {
+            out.printf("%-36s %8d %9.3f %9.3f %9.3f %9.3f %9.3f%n",
+                    latency.method(), latency.count(),
+                    millis(latency.meanNanos()), millis(latency.p50Nanos()), millis(latency.p95Nanos()),
+                    millis(latency.p99Nanos()), millis(latency.maxNanos()));
+        }
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    /**
+     * Summary for one method; all times in nanoseconds.
+     */
+    public record MethodLatency(String method, long count, long meanNanos,
+                                long p50Nanos, long p95Nanos, long p99Nanos, long maxNanos) {
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.taskmanager.metrics;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Records the latency of every call to the annotated method.
+ *
+ * On a class, applies to all of its public methods.
+ * Has no effect unless @EnableTiming is present on a configuration class.
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface Timed {
+}
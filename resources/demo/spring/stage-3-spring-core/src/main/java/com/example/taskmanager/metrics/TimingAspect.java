@@ -0,0 +1,39 @@
+package com.example.taskmanager.metrics;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+
+/**
+ * The @Around timing aspect.
+ *
+ * Wraps every public method of a @Timed class (or any @Timed method) and
+ * records how long it took, including calls that throw.
+ *
+ * The hot path is one System.nanoTime() pair, one map lookup and one
+ * LongAdder increment - tens of nanoseconds, no locks, no allocation
+ * after the first call of each method.
+ */
+@Aspect
+public class TimingAspect {
+
+    private final LatencyRegistry latencyRegistry;
+
+    public TimingAspect(LatencyRegistry latencyRegistry) {
+        this.latencyRegistry = latencyRegistry;
+    }
+
+    @Around("execution(public * *(..)) && (@within(com.example.taskmanager.metrics.Timed) "
+            + "|| @annotation(com.example.taskmanager.metrics.Timed))")
+    public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+        LatencyHistogram histogram = latencyRegistry.histogramFor(
+                ((MethodSignature) joinPoint.getSignature()).getMethod());
+        long start = System.nanoTime();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            histogram.record(System.nanoTime() - start);
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.taskmanager.metrics;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.EnableAspectJAutoProxy;
+
+/**
+ * Beans behind @EnableTiming.
+ *
+ * Deliberately NOT annotated with @Configuration: @ComponentScan would
+ * otherwise pick it up and timing could not be switched off.
+ */
+@EnableAspectJAutoProxy
+public class TimingConfiguration {
+
+    @Bean
+    public LatencyRegistry latencyRegistry() {
+        return new LatencyRegistry();
+    }
+
+    @Bean
+    public TimingAspect timingAspect(LatencyRegistry latencyRegistry) {
+        return new TimingAspect(latencyRegistry);
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.taskmanager.repository;
 
+import com.example.taskmanager.metrics.Timed;
 import com.example.taskmanager.model.Task;
 import com.example.taskmanager.model.TaskStatus;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -18,8 +19,11 @@ import java.util.Optional;
  * - @Autowired on constructor tells Spring to inject ConnectionManager
  *
  * The JDBC boilerplate is still here - Stage 5 (Spring Data JPA) fixes that.
+ *
+ * @Timed records the latency of every public method (see the metrics package).
  */
 @Repository
+@Timed
 public class TaskRepository {
 
     private final ConnectionManager connectionManager;
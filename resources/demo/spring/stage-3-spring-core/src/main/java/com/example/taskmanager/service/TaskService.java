@@ -1,9 +1,14 @@
 package com.example.taskmanager.service;
 
+import com.example.taskmanager.config.CacheConfig;
+import com.example.taskmanager.metrics.Timed;
 import com.example.taskmanager.model.Task;
 import com.example.taskmanager.model.TaskStatus;
 import com.example.taskmanager.repository.TaskRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -17,8 +22,21 @@ import java.util.Optional;
  * - @Autowired injects TaskRepository automatically
  *
  * The business logic is identical - only the wiring changed.
+ *
+ * @Timed records the latency of every public method (see the metrics package).
+ *
+ * CACHING (see CacheConfig):
+ * - getTaskById and getTasksByStatus are @Cacheable, so repeat lookups of
+ *   hot tasks skip the database
+ * - "Not found" is never cached: the id may be created a moment later
+ * - Every write evicts what it could have made stale: the task's own entry
+ *   and all by-status lists
+ * - completeTask/startTask carry the evictions too: they call
+ *   updateTaskStatus on "this", which bypasses the caching proxy
+ * - Cached Task objects are shared; callers must not modify them
  */
 @Service
+@Timed
 public class TaskService {
 
     private final TaskRepository taskRepository;
@@ -29,6 +47,7 @@ public class TaskService {
         System.out.println("TaskService initialized by Spring");
     }
 
+    @CacheEvict(value = CacheConfig.TASKS_BY_STATUS, allEntries = true)
     public Task createTask(String title, String description) {
         if (title == null || title.trim().isEmpty()) {
             throw new IllegalArgumentException("Task title cannot be empty");
@@ -41,10 +60,16 @@ public class TaskService {
         return taskRepository.findAll();
     }
 
+    // #result is the Optional's content: an empty lookup is not cached
+    @Cacheable(value = CacheConfig.TASKS, unless = "#result == null")
     public Optional<Task> getTaskById(Long id) {
         return taskRepository.findById(id);
     }
 
+    @Caching(evict = {
+            @CacheEvict(value = CacheConfig.TASKS, key = "#id"),
+            @CacheEvict(value = CacheConfig.TASKS_BY_STATUS, allEntries = true)
+    })
     public Task updateTaskStatus(Long id, TaskStatus newStatus) {
         Task task = taskRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("Task not found: " + id));
@@ -52,6 +77,10 @@ public class TaskService {
         return taskRepository.update(task);
     }
 
+    @Caching(evict = {
+            @CacheEvict(value = CacheConfig.TASKS, key = "#id"),
+            @CacheEvict(value = CacheConfig.TASKS_BY_STATUS, allEntries = true)
+    })
     public Task updateTask(Long id, String title, String description) {
         Task task = taskRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("Task not found: " + id));
@@ -65,20 +94,33 @@ public class TaskService {
         return taskRepository.update(task);
     }
 
+    @Caching(evict = {
+            @CacheEvict(value = CacheConfig.TASKS, key = "#id"),
+            @CacheEvict(value = CacheConfig.TASKS_BY_STATUS, allEntries = true)
+    })
     public void deleteTask(Long id) {
         taskRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("Task not found: " + id));
         taskRepository.deleteById(id);
     }
 
+    @Cacheable(CacheConfig.TASKS_BY_STATUS)
     public List<Task> getTasksByStatus(TaskStatus status) {
         return taskRepository.findByStatus(status);
     }
 
+    @Caching(evict = {
+            @CacheEvict(value = CacheConfig.TASKS, key = "#id"),
+            @CacheEvict(value = CacheConfig.TASKS_BY_STATUS, allEntries = true)
+    })
     public Task completeTask(Long id) {
         return updateTaskStatus(id, TaskStatus.COMPLETED);
     }
 
+    @Caching(evict = {
+            @CacheEvict(value = CacheConfig.TASKS, key = "#id"),
+            @CacheEvict(value = CacheConfig.TASKS_BY_STATUS, allEntries = true)
+    })
     public Task startTask(Long id) {
         return updateTaskStatus(id, TaskStatus.IN_PROGRESS);
     }
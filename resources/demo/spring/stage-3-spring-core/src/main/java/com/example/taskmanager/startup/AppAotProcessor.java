@@ -0,0 +1,63 @@
+package com.example.taskmanager.startup;
+
+import com.example.taskmanager.config.AppConfig;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.aot.ContextAotProcessor;
+import org.springframework.context.support.GenericApplicationContext;
+
+import java.nio.file.Path;
+
+/**
+ * Build-time Spring AOT processing for AppConfig.
+ *
+ * =====================================================
+ * WHY? What happens at every normal startup
+ * =====================================================
+ * AnnotationConfigApplicationContext scans the classpath, parses every
+ * @Configuration class, evaluates conditions and resolves constructors by
+ * reflection - on EVERY launch, although the answer never changes.
+ *
+ * This processor does that work ONCE during the build. It refreshes the
+ * context "for AOT" (bean definitions only, no beans are created, no
+ * database is touched) and writes plain Java code that registers the very
+ * same bean definitions:
+ *
+ *     AppConfig__ApplicationContextInitializer    entry point used by Main
+ *     *__BeanDefinitions                          one per bean, no reflection
+ *     *$$SpringCGLIB$$0                           proxy classes, pre-generated
+ *
+ * Run by the "aot" Maven profile (see pom.xml):
+ *     java ... AppAotProcessor <sources> <resources> <classes> <groupId> <artifactId>
+ *
+ * Main only uses the generated code when started with -Dspring.aot.enabled=true.
+ */
+public class AppAotProcessor extends ContextAotProcessor {
+
+    public AppAotProcessor(Settings settings) {
+        super(AppConfig.class, settings);
+    }
+
+    public static void main(String[] args) {
+        if (args.length != 5) {
+            throw new IllegalArgumentException(
+                    "Usage: AppAotProcessor <sourceOutput> <resourceOutput> <classOutput> <groupId> <artifactId>");
+        }
+        Settings settings = Settings.builder()
+                .sourceOutput(Path.of(args[0]))
+                .resourceOutput(Path.of(args[1]))
+                .classOutput(Path.of(args[2]))
+                .groupId(args[3])
+                .artifactId(args[4])
+                .build();
+        new AppAotProcessor(settings).process();
+    }
+
+    @Override
+    protected GenericApplicationContext prepareApplicationContext(Class<?> applicationClass) {
+        // Same configuration Main uses, but NOT refreshed: the processor
+        // calls refreshForAotProcessing() itself.
+        AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
+        context.register(applicationClass);
+        return context;
+    }
+}
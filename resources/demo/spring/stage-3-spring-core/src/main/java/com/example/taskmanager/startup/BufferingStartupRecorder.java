@@ -0,0 +1,172 @@
+package com.example.taskmanager.startup;
+
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Records the steps the container goes through while it starts.
+ *
+ * Spring reports every startup phase (configuration class parsing,
+ * component scanning, each bean instantiation...) to an ApplicationStartup.
+ * The default one throws the information away. This one keeps it in memory
+ * so Main can print where the startup time went.
+ *
+ * Spring Boot ships the same idea as BufferingApplicationStartup, but this
+ * stage uses plain Spring Core, so here is a small version of our own.
+ *
+ * Usage:
+ *     context.setApplicationStartup(recorder);   // BEFORE refresh()
+ *     context.refresh();
+ *     recorder.printReport(System.out, 15);
+ */
+public class BufferingStartupRecorder implements ApplicationStartup {
+
+    /**
+     * One finished step: name, parent and tags as reported by Spring.
+     */
+    public record RecordedStep(long id, Long parentId, String name, String tags, long durationNanos) { }
+
+    private final int capacity;
+    private final long startedAt = System.nanoTime();
+    private final AtomicLong ids = new AtomicLong();
+    private final AtomicInteger recorded = new AtomicInteger();
+    private final AtomicReference<Step> current = new AtomicReference<>();
+    private final Queue<RecordedStep> steps = new ConcurrentLinkedQueue<>();
+
+    /**
+     * @param capacity steps kept at most; later steps are dropped so a long
+     *                 running context cannot grow this buffer forever
+     */
+    public BufferingStartupRecorder(int capacity) {
+        this.capacity = capacity;
+    }
+
+    @Override
+    public StartupStep start(String name) {
+        Step parent = current.get();
+        Step step = new Step(ids.getAndIncrement(), parent, name);
+        current.set(step);
+        return step;
+    }
+
+    /**
+     * All finished steps in the order they ended (children before parents).
+     */
+    public List<RecordedStep> getSteps() {
+        return new ArrayList<>(steps);
+    }
+
+    /**
+     * Prints the slowest steps. Durations include nested steps, so a
+     * "spring.context.refresh" line covers everything below it.
+     */
+    public void printReport(PrintStream out, int limit) {
+        List<RecordedStep> slowest = getSteps();
+        slowest.sort(Comparator.comparingLong(RecordedStep::durationNanos).reversed());
+
+        out.printf("%n--- Startup Steps (%d recorded, %.1f ms since recorder creation) ---%n",
+                slowest.size(), millis(System.nanoTime() - startedAt));
+        out.printf("%10s  %s%n", "ms", "step");
+        for (RecordedStep step : slowest.subList(0, Math.min(limit, slowest.size()))) {
+            out.printf("%10.2f  %s %s%n", millis(step.durationNanos()), step.name(), step.tags());
+        }
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    private final class Step implements StartupStep {
+        private final long id;
+        private final Step parent;
+        private final String name;
+        private final long start = System.nanoTime();
+        private final List<Tag> tags = new ArrayList<>();
+
+        Step(long id, Step parent, String name) {
+            this.id = id;
+            this.parent = parent;
+            this.name = name;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public long getId() {
+            return id;
+        }
+
+        @Override
+        public Long getParentId() {
+            return parent != null ? parent.id : null;
+        }
+
+        @Override
+        public StartupStep tag(String key, String value) {
+            tags.add(new SimpleTag(key, value));
+            return this;
+        }
+
+        @Override
+        public StartupStep tag(String key, Supplier<String> value) {
+            return tag(key, value.get());
+        }
+
+        @Override
+        public Tags getTags() {
+            return () -> tags.iterator();
+        }
+
+        @Override
+        public void end() {
+            long duration = System.nanoTime() - start;
+            current.compareAndSet(this, parent);
+            if (recorded.getAndIncrement() < capacity) {
+                steps.add(new RecordedStep(id, getParentId(), name, formatTags(), duration));
+            }
+        }
+
+        private String formatTags() {
+            if (tags.isEmpty()) {
+                return "";
+            }
+            StringBuilder text = new StringBuilder("[");
+            Iterator<Tag> iterator = tags.iterator();
+            while (iterator.hasNext()) {
+                Tag tag = iterator.next();
+                text.append(tag.getKey()).append('=').append(tag.getValue());
+                if (iterator.hasNext()) {
+                    text.append(", ");
+                }
+            }
+            return text.append(']').toString();
+        }
+    }
+
+    private record SimpleTag(String key, String value) implements StartupStep.Tag {
+        @Override
+        public String getKey() {
+            return key;
+        }
+
+        @Override
+        public String getValue() {
+            return value;
+        }
+    }
+}
@@ -0,0 +1,71 @@
+#!/usr/bin/env bash
+#
+# Fast-start launcher: Spring AOT + JDK AppCDS archive.
+#
+#   mvn -Paot package          build the AOT JAR + target/lib
+#   ./start.sh                 run the app (creates the CDS archive on first use)
+#   ./start.sh train           (re)create the CDS archive only
+#   ./start.sh measure [runs]  compare cold-start time of the three modes
+#
+# TRAINING RUN: the app is started once with -XX:ArchiveClassesAtExit and
+# -Dspring.context.exit=onRefresh. Spring stops the JVM as soon as the context
+# is refreshed, and the JVM dumps every class it loaded into target/app.jsa.
+# Later runs map that archive instead of parsing and verifying the classes.
+#
+# The archive only matches the exact JAR files and JDK it was built with.
+# Rebuild (mvn -Paot package) => run ./start.sh train again. A stale archive
+# is not dangerous: the JVM prints a warning and ignores it.
+set -euo pipefail
+
+cd "$(dirname "$0")"
+JAR=target/task-manager-1.0-SNAPSHOT.jar
+ARCHIVE=target/app.jsa
+AOT=-Dspring.aot.enabled=true
+
+if [[ ! -f "$JAR" || ! -d target/lib ]]; then
+    echo "Missing $JAR - build it first: mvn -Paot package" >&2
+    exit 1
+fi
+
+train() {
+    rm -f "$ARCHIVE"
+    java -XX:ArchiveClassesAtExit="$ARCHIVE" "$AOT" -Dspring.context.exit=onRefresh \
+        -jar "$JAR" > /dev/null
+    echo "Created $ARCHIVE"
+}
+
+# Average wall-clock milliseconds from JVM launch to refreshed context
+time_startup() {
+    local runs=$1; shift
+    local total=0 start end
+    for ((i = 0; i < runs; i++)); do
+        start=$(date +%s%N)
+        java "$@" -Dspring.context.exit=onRefresh -jar "$JAR" > /dev/null
+        end=$(date +%s%N)
+        total=$((total + (end - start) / 1000000))
+    done
+    echo $((total / runs))
+}
+
+case "${1:-run}" in
+    train)
+        train
+        ;;
+    measure)
+        runs=${2:-10}
+        [[ -f "$ARCHIVE" ]] || train
+        echo "Average startup over $runs runs:"
+        printf '  %-22s %6s ms\n' "classic" "$(time_startup "$runs")"
+        printf '  %-22s %6s ms\n' "AOT" "$(time_startup "$runs" "$AOT")"
+        printf '  %-22s %6s ms\n' "AOT + CDS" "$(time_startup "$runs" "$AOT" -XX:SharedArchiveFile="$ARCHIVE")"
+        ;;
+    run)
+        [[ -f "$ARCHIVE" ]] || train
+        shift $(($# > 0 ? 1 : 0))
+        exec java -XX:SharedArchiveFile="$ARCHIVE" "$AOT" "$@" -jar "$JAR"
+        ;;
+    *)
+        echo "Usage: $0 [run [jvm-options...] | train | measure [runs]]" >&2
+        exit 1
+        ;;
+esac
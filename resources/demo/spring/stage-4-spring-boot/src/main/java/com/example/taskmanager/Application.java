@@ -4,7 +4,9 @@ import com.example.taskmanager.ui.ConsoleUI;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
 import org.springframework.context.annotation.Bean;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
  * Spring Boot Application Entry Point.
@@ -42,12 +44,25 @@ import org.springframework.context.annotation.Bean;
  * - JdbcTemplate
  * - Transaction management
  * - And much more!
+ *
+ * STARTUP STEPS:
+ * BufferingApplicationStartup keeps every step Spring reports while it
+ * starts (auto-configuration, bean creation...). Run with
+ * --startup.report=true to print the slowest ones (see StartupReport),
+ * and see start.sh for the AOT + CDS fast-start launcher.
+ *
+ * @EnableScheduling runs @Scheduled jobs such as TaskArchiver. The
+ * scheduler thread would keep the JVM alive, so main() closes the context
+ * (SpringApplication.exit) once the console UI returns.
  */
 @SpringBootApplication
+@EnableScheduling
 public class Application {
 
     public static void main(String[] args) {
-        SpringApplication.run(Application.class, args);
+        SpringApplication application = new SpringApplication(Application.class);
+        application.setApplicationStartup(new BufferingApplicationStartup(2048));
+        System.exit(SpringApplication.exit(application.run(args)));
     }
 
     /**
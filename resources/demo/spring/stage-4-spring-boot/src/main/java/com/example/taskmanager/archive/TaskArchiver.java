@@ -0,0 +1,75 @@
+package com.example.taskmanager.archive;
+
+import com.example.taskmanager.repository.TaskRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Background job that moves finished tasks to the tasks_archive table.
+ *
+ * WHY?
+ * findAll() and findByStatus() sort the whole tasks table by created_at.
+ * Most rows are COMPLETED/CANCELLED tasks nobody looks at any more, and
+ * their number only grows. Moving them out keeps the hot table - and every
+ * query on it - as small as the set of tasks still in use.
+ *
+ * CHUNKS:
+ * Each chunk is its own short transaction (TaskRepository.archiveFinishedBefore).
+ * One giant "move everything" transaction would lock many rows and build a
+ * huge undo log; small chunks let normal traffic continue in between.
+ *
+ * Configured with task.archive.* in application.properties.
+ */
+@Component
+@ConditionalOnProperty(name = "task.archive.enabled", havingValue = "true", matchIfMissing = true)
+public class TaskArchiver {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskArchiver.class);
+
+    private final TaskRepository taskRepository;
+    private final Duration olderThan;
+    private final int chunkSize;
+
+    public TaskArchiver(TaskRepository taskRepository,
+                        @Value("${task.archive.older-than:P30D}") Duration olderThan,
+                        @Value("${task.archive.chunk-size:500}") int chunkSize) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("task.archive.chunk-size must be at least 1");
+        }
+        this.taskRepository = taskRepository;
+        this.olderThan = olderThan;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Moves every eligible task, one chunk at a time.
+     *
+     * The tasks table has no completion time, so "older than" is measured
+     * from created_at.
+     *
+     * @return number of tasks archived
+     */
+    @Scheduled(initialDelayString = "${task.archive.initial-delay:PT1M}",
+               fixedDelayString = "${task.archive.interval:PT1H}")
+    public int archive() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(olderThan);
+        int total = 0;
+        int moved;
+        do {
+            moved = taskRepository.archiveFinishedBefore(cutoff, chunkSize);
+            total += moved;
+        } while (moved == chunkSize);
+
+        if (total > 0) {
+            log.info("Archived {} finished tasks created before {}", total, cutoff);
+        }
+        return total;
+    }
+}
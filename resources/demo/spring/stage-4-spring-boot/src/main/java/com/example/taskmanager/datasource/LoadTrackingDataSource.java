@@ -0,0 +1,75 @@
+package com.example.taskmanager.datasource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Wraps a replica DataSource and counts the connections currently borrowed
+ * from it, so the least-loaded strategy can pick the idlest replica.
+ *
+ * The count goes up in getConnection() and down when the returned
+ * connection is closed (returned to its pool).
+ */
+public class LoadTrackingDataSource extends DelegatingDataSource {
+
+    private final String name;
+    private final AtomicInteger activeConnections = new AtomicInteger();
+    private final AtomicLong totalConnections = new AtomicLong();
+
+    public LoadTrackingDataSource(String name, DataSource target) {
+        super(target);
+        this.name = name;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /** Connections handed out and not yet closed. */
+    public int getActiveConnections() {
+        return activeConnections.get();
+    }
+
+    /** Connections handed out since startup. */
+    public long getTotalConnections() {
+        return totalConnections.get();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return track(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return track(super.getConnection(username, password));
+    }
+
+    private Connection track(Connection connection) {
+        activeConnections.incrementAndGet();
+        totalConnections.incrementAndGet();
+        // close() may be called more than once; only the first one counts
+        AtomicBoolean closed = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[] {Connection.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("close") && closed.compareAndSet(false, true)) {
+                        activeConnections.decrementAndGet();
+                    }
+                    try {
+                        return method.invoke(connection, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getTargetException();
+                    }
+                });
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.taskmanager.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Replaces Spring Boot's single DataSource with primary + read replicas.
+ *
+ * Only active with task.datasource.routing-enabled=true. Otherwise Spring
+ * Boot auto-configures the usual single DataSource and nothing changes.
+ *
+ * Because this class defines DataSource beans, Boot's own DataSource
+ * auto-configuration backs off. JdbcTemplate, the transaction manager and
+ * schema.sql initialization all use the @Primary "dataSource" bean, so
+ * schema.sql runs on the primary only; real replicas get their schema by
+ * replication.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(name = "task.datasource.routing-enabled", havingValue = "true")
+@EnableConfigurationProperties(ReplicaProperties.class)
+public class ReadWriteDataSourceConfig {
+
+    @Bean
+    public ReadWriteRoutingDataSource routingDataSource(DataSourceProperties primaryProperties,
+                                                        ReplicaProperties replicaProperties) {
+        HikariDataSource primary = primaryProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        primary.setPoolName("primary");
+
+        List<LoadTrackingDataSource> replicas = new ArrayList<>();
+        for (int i = 0; i < replicaProperties.replicas().size(); i++) {
+            ReplicaProperties.Replica replica = replicaProperties.replicas().get(i);
+            HikariDataSource pool = DataSourceBuilder.create()
+                    .type(HikariDataSource.class)
+                    .url(replica.url())
+                    .username(replica.username())
+                    .password(replica.password())
+                    .build();
+            pool.setPoolName("replica-" + i);
+            pool.setMaximumPoolSize(replica.maximumPoolSize());
+            pool.setReadOnly(true);
+            replicas.add(new LoadTrackingDataSource("replica-" + i, pool));
+        }
+
+        return new ReadWriteRoutingDataSource(primary, replicas, replicaProperties.strategy());
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReadWriteRoutingDataSource routingDataSource) {
+        // Defers getConnection() until the first statement, when the
+        // transaction's read-only flag is already known (see ReadWriteRoutingDataSource)
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+}
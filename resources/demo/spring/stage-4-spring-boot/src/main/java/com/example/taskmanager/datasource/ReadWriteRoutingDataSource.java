@@ -0,0 +1,97 @@
+package com.example.taskmanager.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Sends read-only transactions to a replica and everything else to the primary.
+ *
+ * HOW A CALL IS ROUTED:
+ *     @Transactional(readOnly = true)  ->  one of the replicas
+ *     @Transactional                   ->  primary
+ *     no transaction                   ->  primary
+ *
+ * The decision is made when the first statement needs a connection, so this
+ * DataSource must be wrapped in a LazyConnectionDataSourceProxy. Without
+ * it, the transaction manager would fetch the connection BEFORE the
+ * transaction is marked read-only, and every call would go to the primary.
+ *
+ * REPLICA CHOICE:
+ *     ROUND_ROBIN   replicas take turns
+ *     LEAST_LOADED  the replica with the fewest borrowed connections;
+ *                   ties are broken round-robin
+ *
+ * close() shuts down the primary and replica pools.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+
+    public enum Strategy { ROUND_ROBIN, LEAST_LOADED }
+
+    static final String PRIMARY = "primary";
+
+    private final DataSource primary;
+    private final List<LoadTrackingDataSource> replicas;
+    private final Strategy strategy;
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReadWriteRoutingDataSource(DataSource primary, List<LoadTrackingDataSource> replicas, Strategy strategy) {
+        this.primary = primary;
+        this.replicas = List.copyOf(replicas);
+        this.strategy = strategy;
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        for (LoadTrackingDataSource replica : this.replicas) {
+            targets.put(replica.getName(), replica);
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+    }
+
+    public List<LoadTrackingDataSource> getReplicas() {
+        return replicas;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (replicas.isEmpty() || !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return PRIMARY;
+        }
+        return selectReplica().getName();
+    }
+
+    private LoadTrackingDataSource selectReplica() {
+        // floorMod keeps the index valid after the counter overflows
+        int start = Math.floorMod(next.getAndIncrement(), replicas.size());
+        if (strategy == Strategy.ROUND_ROBIN) {
+            return replicas.get(start);
+        }
+
+        LoadTrackingDataSource best = null;
+        for (int i = 0; i < replicas.size(); i++) {
+            LoadTrackingDataSource candidate = replicas.get((start + i) % replicas.size());
+            if (best == null || candidate.getActiveConnections() < best.getActiveConnections()) {
+                best = candidate;
+            }
+        }
+        return best;
+    }
+
+    @Override
+    public void close() throws Exception {
+        for (LoadTrackingDataSource replica : replicas) {
+            if (replica.getTargetDataSource() instanceof AutoCloseable pool) {
+                pool.close();
+            }
+        }
+        if (primary instanceof AutoCloseable pool) {
+            pool.close();
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.taskmanager.datasource;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.util.List;
+
+/**
+ * Read replicas, bound from task.datasource.* in application.properties:
+ *
+ *     task.datasource.routing-enabled=true
+ *     task.datasource.strategy=least-loaded
+ *     task.datasource.replicas[0].url=jdbc:h2:mem:replica1
+ *     task.datasource.replicas[0].username=sa
+ *
+ * The primary is still the normal spring.datasource.* configuration.
+ */
+@ConfigurationProperties("task.datasource")
+public record ReplicaProperties(
+        boolean routingEnabled,
+        @DefaultValue("round-robin") ReadWriteRoutingDataSource.Strategy strategy,
+        @DefaultValue List<Replica> replicas) {
+
+    public record Replica(String url, String username, String password, @DefaultValue("5") int maximumPoolSize) { }
+}
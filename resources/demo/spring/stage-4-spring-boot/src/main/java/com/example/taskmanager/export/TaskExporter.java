@@ -0,0 +1,143 @@
+package com.example.taskmanager.export;
+
+import com.example.taskmanager.model.Task;
+import com.example.taskmanager.repository.TaskRepository;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Writes all tasks as CSV or NDJSON (one JSON object per line).
+ *
+ * Rows go from TaskRepository.forEachTask() straight into a buffered
+ * writer - no List<Task> is ever built. Exporting 10 million tasks needs
+ * the same memory as exporting 10: the fetch buffer plus a 64 KB output
+ * buffer.
+ *
+ * The caller owns the stream: it is flushed but not closed.
+ */
+@Service
+public class TaskExporter {
+
+    public enum Format { CSV, NDJSON }
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final TaskRepository taskRepository;
+
+    public TaskExporter(TaskRepository taskRepository) {
+        this.taskRepository = taskRepository;
+    }
+
+    /**
+     * @return number of tasks written
+     */
+    public long export(Format format, OutputStream out) {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+        long[] count = {0};
+        try {
+            if (format == Format.CSV) {
+                writer.write("id,title,description,status,created_at\n");
+            }
+            taskRepository.forEachTask(task -> {
+                try {
+                    if (format == Format.CSV) {
+                        writeCsv(writer, task);
+                    } else {
+                        writeJson(writer, task);
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                count[0]++;
+            });
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error exporting tasks", e);
+        }
+        return count[0];
+    }
+
+    /**
+     * Same as export(format, OutputStream), for NIO channels (files, sockets).
+     */
+    public long export(Format format, WritableByteChannel channel) {
+        return export(format, Channels.newOutputStream(channel));
+    }
+
+    private static void writeCsv(Writer writer, Task task) throws IOException {
+        writer.write(String.valueOf(task.getId()));
+        writer.write(',');
+        writeCsvField(writer, task.getTitle());
+        writer.write(',');
+        writeCsvField(writer, task.getDescription());
+        writer.write(',');
+        writer.write(task.getStatus().name());
+        writer.write(',');
+        writer.write(task.getCreatedAt().toString());
+        writer.write('\n');
+    }
+
+    // RFC 4180: quote fields containing separators, quotes or line breaks
+    private static void writeCsvField(Writer writer, String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0
+                && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+    private static void writeJson(Writer writer, Task task) throws IOException {
+        writer.write("{\"id\":");
+        writer.write(String.valueOf(task.getId()));
+        writer.write(",\"title\":");
+        writeJsonString(writer, task.getTitle());
+        writer.write(",\"description\":");
+        writeJsonString(writer, task.getDescription());
+        writer.write(",\"status\":\"");
+        writer.write(task.getStatus().name());
+        writer.write("\",\"createdAt\":\"");
+        writer.write(task.getCreatedAt().toString());
+        writer.write("\"}\n");
+    }
+
+    private static void writeJsonString(Writer writer, String value) throws IOException {
+        if (value == null) {
+            writer.write("null");
+            return;
+        }
+        writer.write('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> writer.write("\\\"");
+                case '\\' -> writer.write("\\\\");
+                case '\n' -> writer.write("\\n");
+                case '\r' -> writer.write("\\r");
+                case '\t' -> writer.write("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        writer.write(String.format("\\u%04x", (int) c));
+                    } else {
+                        writer.write(c);
+                    }
+                }
+            }
+        }
+        writer.write('"');
+    }
+}
@@ -2,18 +2,30 @@ package com.example.taskmanager.repository;
 
 import com.example.taskmanager.model.Task;
 import com.example.taskmanager.model.TaskStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataRetrievalFailureException;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.jdbc.support.GeneratedKeyHolder;
 import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 /**
  * Data Access Object using Spring's JdbcTemplate.
@@ -24,6 +36,16 @@ import java.util.Optional;
  * - Cleaner query methods
  * - Automatic exception translation
  *
+ * HOT AND COLD TASKS:
+ * Finished tasks are moved to tasks_archive by TaskArchiver. The normal
+ * find methods only read the (small) tasks table; the *IncludingArchive
+ * methods read both.
+ *
+ * READ REPLICAS:
+ * The find methods are @Transactional(readOnly = true). With
+ * task.datasource.routing-enabled=true that sends them to a read replica
+ * (see ReadWriteRoutingDataSource); otherwise the flag is just a hint.
+ *
  * STILL MANUAL:
  * - Writing SQL
  * - RowMapper implementation
@@ -34,14 +56,31 @@ import java.util.Optional;
 @Repository
 public class TaskRepository {
 
+    // Explicit list: tasks_archive has an extra archived_at column
+    private static final String COLUMNS = "id, title, description, status, created_at";
+
     private final JdbcTemplate jdbcTemplate;
+    private final int batchSize;
+    private final int fetchSize;
 
     /**
      * JdbcTemplate is auto-configured by Spring Boot!
      * Just inject it - no setup required.
+     *
+     * @param batchSize rows per JDBC batch (and ids per IN list) in the
+     *                  bulk methods - task.batch-size in application.properties
+     * @param fetchSize rows the driver fetches per round trip in forEachTask
+     *                  - task.export.fetch-size in application.properties
      */
-    public TaskRepository(JdbcTemplate jdbcTemplate) {
+    public TaskRepository(JdbcTemplate jdbcTemplate,
+                          @Value("${task.batch-size:500}") int batchSize,
+                          @Value("${task.export.fetch-size:1000}") int fetchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("task.batch-size must be at least 1");
+        }
         this.jdbcTemplate = jdbcTemplate;
+        this.batchSize = batchSize;
+        this.fetchSize = fetchSize;
     }
 
     public Task save(Task task) {
@@ -50,7 +89,8 @@ public class TaskRepository {
         KeyHolder keyHolder = new GeneratedKeyHolder();
 
         jdbcTemplate.update(connection -> {
-            PreparedStatement ps = connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS);
+            // Only the id: RETURN_GENERATED_KEYS also returns defaulted columns on H2 2.x
+            PreparedStatement ps = connection.prepareStatement(sql, new String[] {"id"});
             ps.setString(1, task.getTitle());
             ps.setString(2, task.getDescription());
             ps.setString(3, task.getStatus().name());
@@ -62,6 +102,57 @@ public class TaskRepository {
         return task;
     }
 
+    /**
+     * Inserts many tasks with JDBC batching: one round trip per batchSize
+     * rows instead of one per task. Generated ids are set back on every task.
+     *
+     * Runs in one transaction, so either all tasks are saved or none.
+     */
+    @Transactional
+    public List<Task> saveAll(List<Task> tasks) {
+        String sql = "INSERT INTO tasks (title, description, status, created_at) VALUES (?, ?, ?, ?)";
+
+        try {
+            for (List<Task> chunk : chunks(tasks)) {
+                KeyHolder keyHolder = new GeneratedKeyHolder();
+                jdbcTemplate.batchUpdate(
+                        connection -> connection.prepareStatement(sql, new String[] {"id"}),
+                        new BatchPreparedStatementSetter() {
+                            @Override
+                            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                                Task task = chunk.get(i);
+                                ps.setString(1, task.getTitle());
+                                ps.setString(2, task.getDescription());
+                                ps.setString(3, task.getStatus().name());
+                                ps.setTimestamp(4, Timestamp.valueOf(task.getCreatedAt()));
+                            }
+
+                            @Override
+                            public int getBatchSize() {
+                                return chunk.size();
+                            }
+                        },
+                        keyHolder);
+
+                // Keys come back in the same order the rows were added
+                List<Map<String, Object>> keys = keyHolder.getKeyList();
+                if (keys.size() != chunk.size()) {
+                    throw new DataRetrievalFailureException(
+                            "Expected " + chunk.size() + " generated keys but got " + keys.size());
+                }
+                for (int i = 0; i < chunk.size(); i++) {
+                    chunk.get(i).setId(((Number) keys.get(i).values().iterator().next()).longValue());
+                }
+            }
+        } catch (RuntimeException e) {
+            // The transaction is rolled back, so no task keeps an id from an earlier chunk
+            tasks.forEach(task -> task.setId(null));
+            throw e;
+        }
+        return tasks;
+    }
+
+    @Transactional(readOnly = true)
     public Optional<Task> findById(Long id) {
         String sql = "SELECT * FROM tasks WHERE id = ?";
 
@@ -69,11 +160,58 @@ public class TaskRepository {
         return results.isEmpty() ? Optional.empty() : Optional.of(results.get(0));
     }
 
+    @Transactional(readOnly = true)
     public List<Task> findAll() {
         String sql = "SELECT * FROM tasks ORDER BY created_at DESC";
         return jdbcTemplate.query(sql, this::mapRowToTask);
     }
 
+    /**
+     * Like findAll(), but also returns archived tasks. Slower: reads and
+     * sorts both tables. Use only when history is really needed.
+     */
+    @Transactional(readOnly = true)
+    public List<Task> findAllIncludingArchive() {
+        String sql = "SELECT " + COLUMNS + " FROM tasks"
+                + " UNION ALL SELECT " + COLUMNS + " FROM tasks_archive"
+                + " ORDER BY created_at DESC";
+        return jdbcTemplate.query(sql, this::mapRowToTask);
+    }
+
+    /**
+     * Like findByStatus(), but also returns archived tasks.
+     */
+    @Transactional(readOnly = true)
+    public List<Task> findByStatusIncludingArchive(TaskStatus status) {
+        String sql = "SELECT " + COLUMNS + " FROM tasks WHERE status = ?"
+                + " UNION ALL SELECT " + COLUMNS + " FROM tasks_archive WHERE status = ?"
+                + " ORDER BY created_at DESC";
+        return jdbcTemplate.query(sql, this::mapRowToTask, status.name(), status.name());
+    }
+
+    /**
+     * Hands every task to the action, one row at a time, in id order.
+     *
+     * Unlike findAll(), no List is built: a RowCallbackHandler maps each row
+     * as the driver delivers it, and the fetch size bounds how many rows the
+     * driver buffers. Memory stays flat no matter how big the table is.
+     *
+     * MySQL ignores the fetch size unless the URL has useCursorFetch=true
+     * (otherwise it reads the whole result into memory first).
+     */
+    @Transactional(readOnly = true)
+    public void forEachTask(Consumer<Task> action) {
+        // ORDER BY the primary key: read in index order, no sort buffer
+        String sql = "SELECT * FROM tasks ORDER BY id";
+
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(
+                    sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(fetchSize);
+            return ps;
+        }, (RowCallbackHandler) rs -> action.accept(mapRowToTask(rs, 0)));
+    }
+
     public Task update(Task task) {
         String sql = "UPDATE tasks SET title = ?, description = ?, status = ? WHERE id = ?";
 
@@ -86,16 +224,117 @@ public class TaskRepository {
         return task;
     }
 
+    /**
+     * Updates title, description and status of many tasks in JDBC batches.
+     *
+     * @return number of rows updated; ids that no longer exist count as 0
+     */
+    @Transactional
+    public int updateAll(List<Task> tasks) {
+        String sql = "UPDATE tasks SET title = ?, description = ?, status = ? WHERE id = ?";
+
+        int updated = 0;
+        for (List<Task> chunk : chunks(tasks)) {
+            int[] counts = jdbcTemplate.batchUpdate(sql, new BatchPreparedStatementSetter() {
+                @Override
+                public void setValues(PreparedStatement ps, int i) throws SQLException {
+                    Task task = chunk.get(i);
+                    ps.setString(1, task.getTitle());
+                    ps.setString(2, task.getDescription());
+                    ps.setString(3, task.getStatus().name());
+                    ps.setLong(4, task.getId());
+                }
+
+                @Override
+                public int getBatchSize() {
+                    return chunk.size();
+                }
+            });
+            for (int count : counts) {
+                // MySQL's rewritten batches report SUCCESS_NO_INFO (-2) instead of a count
+                updated += count == Statement.SUCCESS_NO_INFO ? 1 : count;
+            }
+        }
+        return updated;
+    }
+
+    /**
+     * Sets the same status on many tasks with set-based statements:
+     *
+     *     UPDATE tasks SET status = ? WHERE id IN (?, ?, ...)
+     *
+     * One statement per batchSize ids, instead of one SELECT + one UPDATE
+     * per task as in TaskService.updateTaskStatus().
+     *
+     * @return number of rows updated
+     */
+    @Transactional
+    public int updateStatusForIds(Collection<Long> ids, TaskStatus status) {
+        // Duplicates would only make the IN list longer
+        List<Long> distinctIds = new ArrayList<>(new LinkedHashSet<>(ids));
+
+        int updated = 0;
+        for (List<Long> chunk : chunks(distinctIds)) {
+            String sql = "UPDATE tasks SET status = ? WHERE id IN ("
+                    + String.join(", ", Collections.nCopies(chunk.size(), "?")) + ")";
+            Object[] args = new Object[chunk.size() + 1];
+            args[0] = status.name();
+            for (int i = 0; i < chunk.size(); i++) {
+                args[i + 1] = chunk.get(i);
+            }
+            updated += jdbcTemplate.update(sql, args);
+        }
+        return updated;
+    }
+
+    /**
+     * Moves up to limit COMPLETED/CANCELLED tasks created before the cutoff
+     * from tasks to tasks_archive, in one transaction.
+     *
+     * The selected rows are locked (FOR UPDATE), so a task cannot change
+     * status between being picked and being copied + deleted.
+     *
+     * @return number of tasks moved; less than limit means nothing is left
+     */
+    @Transactional
+    public int archiveFinishedBefore(LocalDateTime cutoff, int limit) {
+        List<Long> ids = jdbcTemplate.queryForList(
+                "SELECT id FROM tasks WHERE status IN (?, ?) AND created_at < ? ORDER BY id LIMIT ? FOR UPDATE",
+                Long.class,
+                TaskStatus.COMPLETED.name(), TaskStatus.CANCELLED.name(), Timestamp.valueOf(cutoff), limit);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        String inList = String.join(", ", Collections.nCopies(ids.size(), "?"));
+        Object[] args = ids.toArray();
+        jdbcTemplate.update("INSERT INTO tasks_archive (" + COLUMNS + ")"
+                + " SELECT " + COLUMNS + " FROM tasks WHERE id IN (" + inList + ")", args);
+        return jdbcTemplate.update("DELETE FROM tasks WHERE id IN (" + inList + ")", args);
+    }
+
     public void deleteById(Long id) {
         String sql = "DELETE FROM tasks WHERE id = ?";
         jdbcTemplate.update(sql, id);
     }
 
+    @Transactional(readOnly = true)
     public List<Task> findByStatus(TaskStatus status) {
         String sql = "SELECT * FROM tasks WHERE status = ? ORDER BY created_at DESC";
         return jdbcTemplate.query(sql, this::mapRowToTask, status.name());
     }
 
+    /**
+     * Splits a list into views of at most batchSize elements.
+     */
+    private <T> List<List<T>> chunks(List<T> items) {
+        List<List<T>> chunks = new ArrayList<>();
+        for (int start = 0; start < items.size(); start += batchSize) {
+            chunks.add(items.subList(start, Math.min(start + batchSize, items.size())));
+        }
+        return chunks;
+    }
+
     /**
      * Row mapper - converts ResultSet row to Task object.
      * Still manual, but cleaner than Stage 3.
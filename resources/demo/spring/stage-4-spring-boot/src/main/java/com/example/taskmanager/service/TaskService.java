@@ -4,13 +4,19 @@ import com.example.taskmanager.model.Task;
 import com.example.taskmanager.model.TaskStatus;
 import com.example.taskmanager.repository.TaskRepository;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 /**
  * Business logic layer - nearly identical to Stage 3.
  * Spring Boot doesn't change the service layer much.
+ *
+ * Read-modify-write methods are @Transactional: the repository's find call
+ * joins the read-write transaction and reads from the primary, never from
+ * a replica that may lag behind.
  */
 @Service
 public class TaskService {
@@ -29,14 +35,35 @@ public class TaskService {
         return taskRepository.save(task);
     }
 
+    /**
+     * Creates many tasks with batched inserts. All titles are validated
+     * first, so one bad entry saves nothing.
+     */
+    public List<Task> createTasks(List<Task> tasks) {
+        for (Task task : tasks) {
+            if (task.getTitle() == null || task.getTitle().trim().isEmpty()) {
+                throw new IllegalArgumentException("Task title cannot be empty");
+            }
+        }
+        return taskRepository.saveAll(tasks);
+    }
+
     public List<Task> getAllTasks() {
         return taskRepository.findAll();
     }
 
+    /**
+     * All tasks including archived ones - reads both tables, so slower.
+     */
+    public List<Task> getAllTasksIncludingArchive() {
+        return taskRepository.findAllIncludingArchive();
+    }
+
     public Optional<Task> getTaskById(Long id) {
         return taskRepository.findById(id);
     }
 
+    @Transactional
     public Task updateTaskStatus(Long id, TaskStatus newStatus) {
         Task task = taskRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("Task not found: " + id));
@@ -44,6 +71,7 @@ public class TaskService {
         return taskRepository.update(task);
     }
 
+    @Transactional
     public Task updateTask(Long id, String title, String description) {
         Task task = taskRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("Task not found: " + id));
@@ -57,6 +85,7 @@ public class TaskService {
         return taskRepository.update(task);
     }
 
+    @Transactional
     public void deleteTask(Long id) {
         taskRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("Task not found: " + id));
@@ -67,10 +96,22 @@ public class TaskService {
         return taskRepository.findByStatus(status);
     }
 
+    /**
+     * Bulk status change for periodic jobs. Unknown ids are skipped.
+     *
+     * @return number of tasks updated
+     */
+    public int updateStatusForIds(Collection<Long> ids, TaskStatus newStatus) {
+        return taskRepository.updateStatusForIds(ids, newStatus);
+    }
+
+    // Calls on "this" bypass the proxy, so these need their own @Transactional
+    @Transactional
     public Task completeTask(Long id) {
         return updateTaskStatus(id, TaskStatus.COMPLETED);
     }
 
+    @Transactional
     public Task startTask(Long id) {
         return updateTaskStatus(id, TaskStatus.IN_PROGRESS);
     }
@@ -0,0 +1,59 @@
+package com.example.taskmanager.sharding;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Hands out globally unique task ids across all shards.
+ *
+ * AUTO_INCREMENT cannot be used any more: every shard would count 1, 2,
+ * 3... on its own and ids would collide. Instead one table on the first
+ * shard holds the next free id, and each application instance reserves a
+ * whole block of ids from it in one short transaction:
+ *
+ *     next_id = 1      instance A reserves 1..1000    next_id = 1001
+ *                      instance B reserves 1001..2000 next_id = 2001
+ *
+ * Ids inside the block are then handed out from memory with no database
+ * round trip at all. Unused ids of a block are lost when the application
+ * stops - ids are unique, not gap-free.
+ */
+public class BlockIdAllocator {
+
+    private static final String SEQUENCE = "tasks";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int blockSize;
+
+    private long next;
+    private long end;
+
+    public BlockIdAllocator(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate, int blockSize) {
+        if (blockSize < 1) {
+            throw new IllegalArgumentException("Block size must be at least 1");
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.blockSize = blockSize;
+    }
+
+    public synchronized long nextId() {
+        if (next >= end) {
+            next = reserveBlock();
+            end = next + blockSize;
+        }
+        return next++;
+    }
+
+    private long reserveBlock() {
+        Long start = transactionTemplate.execute(status -> {
+            // FOR UPDATE: two instances reserving at once must not get the same block
+            Long first = jdbcTemplate.queryForObject(
+                    "SELECT next_id FROM task_id_blocks WHERE name = ? FOR UPDATE", Long.class, SEQUENCE);
+            jdbcTemplate.update("UPDATE task_id_blocks SET next_id = ? WHERE name = ?", first + blockSize, SEQUENCE);
+            return first;
+        });
+        return start;
+    }
+}
@@ -0,0 +1,214 @@
+package com.example.taskmanager.sharding;
+
+import com.example.taskmanager.model.Task;
+import com.example.taskmanager.model.TaskStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * TaskRepository variant that spreads tasks over several databases.
+ *
+ * =====================================================
+ * WHERE DOES A TASK LIVE?
+ * =====================================================
+ * The shard is a pure function of the id (ConsistentHashRing), so:
+ *
+ *     save / findById / update / deleteById   ->  exactly ONE shard
+ *     findAll / findByStatus / findRecent     ->  ALL shards (scatter-gather)
+ *
+ * Ids come from BlockIdAllocator because each shard's AUTO_INCREMENT would
+ * produce duplicates.
+ *
+ * =====================================================
+ * SCATTER-GATHER
+ * =====================================================
+ * A list query is sent to every shard at the same time, each shard returns
+ * its rows already sorted by created_at DESC, and the sorted lists are
+ * combined with a k-way merge (a heap holding the head of each list). The
+ * wall-clock time is that of the SLOWEST shard, not the sum of all.
+ *
+ * If one shard fails, the whole query fails: a silently incomplete list
+ * would be worse than an error.
+ *
+ * Configured by ShardingConfig (task.sharding.* in application.properties).
+ */
+public class ShardedTaskRepository implements AutoCloseable {
+
+    /**
+     * One database of the sharded set.
+     */
+    public record Shard(String name, JdbcTemplate jdbcTemplate) { }
+
+    private static final Comparator<Task> NEWEST_FIRST =
+            Comparator.comparing(Task::getCreatedAt).thenComparing(Task::getId).reversed();
+
+    private final List<Shard> shards;
+    private final ConsistentHashRing<Shard> ring;
+    private final BlockIdAllocator idAllocator;
+    private final ExecutorService executor;
+
+    public ShardedTaskRepository(List<Shard> shards, int virtualNodes, BlockIdAllocator idAllocator) {
+        this.shards = List.copyOf(shards);
+        Map<String, Shard> byName = new LinkedHashMap<>();
+        shards.forEach(shard -> byName.put(shard.name(), shard));
+        this.ring = new ConsistentHashRing<>(byName, virtualNodes);
+        this.idAllocator = idAllocator;
+
+        // One thread per shard: a scatter never queues behind itself
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(shards.size(), runnable -> {
+            Thread thread = new Thread(runnable, "shard-query-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public List<Shard> getShards() {
+        return shards;
+    }
+
+    /** The shard that holds (or will hold) the task with this id. */
+    public Shard shardFor(long id) {
+        return ring.nodeFor(id);
+    }
+
+    public Task save(Task task) {
+        long id = idAllocator.nextId();
+        shardFor(id).jdbcTemplate().update(
+                "INSERT INTO tasks (id, title, description, status, created_at) VALUES (?, ?, ?, ?, ?)",
+                id,
+                task.getTitle(),
+                task.getDescription(),
+                task.getStatus().name(),
+                Timestamp.valueOf(task.getCreatedAt()));
+        task.setId(id);
+        return task;
+    }
+
+    public Optional<Task> findById(Long id) {
+        List<Task> results = shardFor(id).jdbcTemplate()
+                .query("SELECT * FROM tasks WHERE id = ?", ShardedTaskRepository::mapRowToTask, id);
+        return results.isEmpty() ? Optional.empty() : Optional.of(results.get(0));
+    }
+
+    public Task update(Task task) {
+        shardFor(task.getId()).jdbcTemplate().update(
+                "UPDATE tasks SET title = ?, description = ?, status = ? WHERE id = ?",
+                task.getTitle(),
+                task.getDescription(),
+                task.getStatus().name(),
+                task.getId());
+        return task;
+    }
+
+    public void deleteById(Long id) {
+        shardFor(id).jdbcTemplate().update("DELETE FROM tasks WHERE id = ?", id);
+    }
+
+    public List<Task> findAll() {
+        return scatterGather("SELECT * FROM tasks ORDER BY created_at DESC, id DESC", Integer.MAX_VALUE);
+    }
+
+    public List<Task> findByStatus(TaskStatus status) {
+        return scatterGather("SELECT * FROM tasks WHERE status = ? ORDER BY created_at DESC, id DESC",
+                Integer.MAX_VALUE, status.name());
+    }
+
+    /**
+     * The newest tasks across all shards. Every shard returns at most
+     * limit rows (LIMIT is pushed down), so the merge never handles more
+     * than shards * limit rows however big the tables are.
+     */
+    public List<Task> findRecent(int limit) {
+        return scatterGather("SELECT * FROM tasks ORDER BY created_at DESC, id DESC LIMIT ?", limit, limit);
+    }
+
+    private List<Task> scatterGather(String sql, int limit, Object... args) {
+        List<CompletableFuture<List<Task>>> futures = new ArrayList<>(shards.size());
+        for (Shard shard : shards) {
+            futures.add(CompletableFuture.supplyAsync(
+                    () -> shard.jdbcTemplate().query(sql, ShardedTaskRepository::mapRowToTask, args),
+                    executor));
+        }
+
+        List<List<Task>> perShard = new ArrayList<>(futures.size());
+        try {
+            for (CompletableFuture<List<Task>> future : futures) {
+                perShard.add(future.join());
+            }
+        } catch (CompletionException e) {
+            // Rethrow the shard's own DataAccessException rather than the wrapper
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+        return merge(perShard, limit);
+    }
+
+    /**
+     * K-way merge of lists that are each sorted NEWEST_FIRST.
+     * O(n log k) for n rows from k shards.
+     */
+    static List<Task> merge(List<List<Task>> sortedLists, int limit) {
+        // Heap entry: {list index, position in that list}
+        PriorityQueue<int[]> heads = new PriorityQueue<>(Math.max(1, sortedLists.size()),
+                (a, b) -> NEWEST_FIRST.compare(sortedLists.get(a[0]).get(a[1]), sortedLists.get(b[0]).get(b[1])));
+        int total = 0;
+        for (int i = 0; i < sortedLists.size(); i++) {
+            if (!sortedLists.get(i).isEmpty()) {
+                heads.add(new int[] {i, 0});
+                total += sortedLists.get(i).size();
+            }
+        }
+
+        List<Task> merged = new ArrayList<>(Math.min(total, limit));
+        while (!heads.isEmpty() && merged.size() < limit) {
+            int[] head = heads.poll();
+            List<Task> list = sortedLists.get(head[0]);
+            merged.add(list.get(head[1]));
+            if (head[1] + 1 < list.size()) {
+                heads.add(new int[] {head[0], head[1] + 1});
+            }
+        }
+        return merged;
+    }
+
+    private static Task mapRowToTask(ResultSet rs, int rowNum) throws SQLException {
+        return new Task(
+                rs.getLong("id"),
+                rs.getString("title"),
+                rs.getString("description"),
+                TaskStatus.valueOf(rs.getString("status")),
+                rs.getTimestamp("created_at").toLocalDateTime()
+        );
+    }
+
+    /**
+     * Stops the query threads and closes the shards' connection pools.
+     */
+    @Override
+    public void close() throws Exception {
+        executor.shutdown();
+        for (Shard shard : shards) {
+            if (shard.jdbcTemplate().getDataSource() instanceof AutoCloseable pool) {
+                pool.close();
+            }
+        }
+    }
+}
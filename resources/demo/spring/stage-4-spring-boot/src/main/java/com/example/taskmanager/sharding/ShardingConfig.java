@@ -0,0 +1,60 @@
+package com.example.taskmanager.sharding;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.init.DatabasePopulatorUtils;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Creates ShardedTaskRepository when task.sharding.enabled=true.
+ *
+ * The shard pools are private to the repository - they are NOT DataSource
+ * beans, so Spring Boot's own DataSource, JdbcTemplate and schema.sql keep
+ * working unchanged for the rest of the application.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(name = "task.sharding.enabled", havingValue = "true")
+@EnableConfigurationProperties(ShardingProperties.class)
+public class ShardingConfig {
+
+    @Bean
+    public ShardedTaskRepository shardedTaskRepository(ShardingProperties properties) {
+        if (properties.shards().isEmpty()) {
+            throw new IllegalStateException("task.sharding.enabled=true but no task.sharding.shards configured");
+        }
+
+        ResourceDatabasePopulator schema = new ResourceDatabasePopulator(new ClassPathResource("shard-schema.sql"));
+        List<ShardedTaskRepository.Shard> shards = new ArrayList<>();
+        for (ShardingProperties.Shard shard : properties.shards()) {
+            HikariDataSource pool = DataSourceBuilder.create()
+                    .type(HikariDataSource.class)
+                    .url(shard.url())
+                    .username(shard.username())
+                    .password(shard.password())
+                    .build();
+            pool.setPoolName(shard.name());
+            pool.setMaximumPoolSize(shard.maximumPoolSize());
+            DatabasePopulatorUtils.execute(schema, pool);
+            shards.add(new ShardedTaskRepository.Shard(shard.name(), new JdbcTemplate(pool)));
+        }
+
+        JdbcTemplate coordinator = shards.get(0).jdbcTemplate();
+        BlockIdAllocator idAllocator = new BlockIdAllocator(
+                coordinator,
+                new TransactionTemplate(new DataSourceTransactionManager(coordinator.getDataSource())),
+                properties.idBlockSize());
+
+        return new ShardedTaskRepository(shards, properties.virtualNodes(), idAllocator);
+    }
+}
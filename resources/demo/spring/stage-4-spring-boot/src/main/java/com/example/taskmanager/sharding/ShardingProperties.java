@@ -0,0 +1,28 @@
+package com.example.taskmanager.sharding;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.util.List;
+
+/**
+ * Shards for ShardedTaskRepository, bound from task.sharding.*:
+ *
+ *     task.sharding.enabled=true
+ *     task.sharding.shards[0].name=shard-a
+ *     task.sharding.shards[0].url=jdbc:h2:mem:shard-a
+ *     task.sharding.shards[0].username=sa
+ *
+ * Shard names decide the positions on the hash ring: renaming a shard
+ * moves its data to other shards. The first shard also stores the id blocks.
+ */
+@ConfigurationProperties("task.sharding")
+public record ShardingProperties(
+        boolean enabled,
+        @DefaultValue("64") int virtualNodes,
+        @DefaultValue("1000") int idBlockSize,
+        @DefaultValue List<Shard> shards) {
+
+    public record Shard(String name, String url, String username, String password,
+                        @DefaultValue("5") int maximumPoolSize) { }
+}
@@ -0,0 +1,61 @@
+package com.example.taskmanager.startup;
+
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline;
+import org.springframework.context.ApplicationListener;
+import org.springframework.core.env.Environment;
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.StringJoiner;
+
+/**
+ * Prints the slowest startup steps once the context has started.
+ *
+ * ApplicationStartedEvent fires after the refresh but BEFORE the
+ * CommandLineRunner, so the table appears above the console menu.
+ *
+ * Enabled with startup.report=true. The flag is read at runtime instead of
+ * using @ConditionalOnProperty: with Spring AOT, conditions are evaluated
+ * once at build time and could not be switched on at launch any more.
+ */
+@Component
+public class StartupReport implements ApplicationListener<ApplicationStartedEvent> {
+
+    private static final int LIMIT = 15;
+
+    @Override
+    public void onApplicationEvent(ApplicationStartedEvent event) {
+        Environment environment = event.getApplicationContext().getEnvironment();
+        if (!environment.getProperty("startup.report", Boolean.class, false)
+                || !(event.getApplicationContext().getApplicationStartup()
+                        instanceof BufferingApplicationStartup startup)) {
+            return;
+        }
+
+        // Durations include nested steps: "spring.context.refresh" covers almost everything
+        List<StartupTimeline.TimelineEvent> events = new ArrayList<>(startup.getBufferedTimeline().getEvents());
+        events.sort(Comparator.comparing(StartupTimeline.TimelineEvent::getDuration).reversed());
+
+        System.out.printf("%n--- Startup Steps (%d recorded, ready in %d ms) ---%n",
+                events.size(), event.getTimeTaken().toMillis());
+        System.out.printf("%10s  %s%n", "ms", "step");
+        for (StartupTimeline.TimelineEvent timelineEvent : events.subList(0, Math.min(LIMIT, events.size()))) {
+            StartupStep step = timelineEvent.getStartupStep();
+            System.out.printf("%10d  %s %s%n",
+                    timelineEvent.getDuration().toMillis(), step.getName(), formatTags(step));
+        }
+    }
+
+    private static String formatTags(StartupStep step) {
+        StringJoiner tags = new StringJoiner(", ", "[", "]").setEmptyValue("");
+        for (StartupStep.Tag tag : step.getTags()) {
+            tags.add(tag.getKey() + "=" + tag.getValue());
+        }
+        return tags.toString();
+    }
+}
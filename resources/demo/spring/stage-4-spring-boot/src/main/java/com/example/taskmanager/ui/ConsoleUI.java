@@ -1,10 +1,15 @@
 package com.example.taskmanager.ui;
 
+import com.example.taskmanager.export.TaskExporter;
 import com.example.taskmanager.model.Task;
 import com.example.taskmanager.model.TaskStatus;
 import com.example.taskmanager.service.TaskService;
 import org.springframework.stereotype.Component;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.List;
 import java.util.Optional;
 import java.util.Scanner;
@@ -16,10 +21,12 @@ import java.util.Scanner;
 public class ConsoleUI {
 
     private final TaskService taskService;
+    private final TaskExporter taskExporter;
     private final Scanner scanner;
 
-    public ConsoleUI(TaskService taskService) {
+    public ConsoleUI(TaskService taskService, TaskExporter taskExporter) {
         this.taskService = taskService;
+        this.taskExporter = taskExporter;
         this.scanner = new Scanner(System.in);
     }
 
@@ -42,6 +49,8 @@ public class ConsoleUI {
                     case "5" -> changeStatus();
                     case "6" -> deleteTask();
                     case "7" -> listByStatus();
+                    case "8" -> exportTasks();
+                    case "9" -> listAllTasksIncludingArchive();
                     case "0" -> {
                         running = false;
                         System.out.println("Goodbye!");
@@ -64,6 +73,8 @@ public class ConsoleUI {
         System.out.println("5. Change Status");
         System.out.println("6. Delete Task");
         System.out.println("7. List by Status");
+        System.out.println("8. Export Tasks");
+        System.out.println("9. List All Tasks (incl. archive)");
         System.out.println("0. Exit");
         System.out.print("Choose option: ");
     }
@@ -87,6 +98,16 @@ public class ConsoleUI {
         tasks.forEach(System.out::println);
     }
 
+    private void listAllTasksIncludingArchive() {
+        List<Task> tasks = taskService.getAllTasksIncludingArchive();
+        if (tasks.isEmpty()) {
+            System.out.println("No tasks found.");
+            return;
+        }
+        System.out.println("\n--- All Tasks (incl. archive) ---");
+        tasks.forEach(System.out::println);
+    }
+
     private void viewTask() {
         System.out.print("Enter task ID: ");
         Long id = Long.parseLong(scanner.nextLine());
@@ -165,4 +186,21 @@ public class ConsoleUI {
             tasks.forEach(System.out::println);
         }
     }
+
+    private void exportTasks() throws IOException {
+        System.out.println("1. CSV  2. NDJSON");
+        System.out.print("Choice: ");
+        TaskExporter.Format format = switch (scanner.nextLine()) {
+            case "1" -> TaskExporter.Format.CSV;
+            case "2" -> TaskExporter.Format.NDJSON;
+            default -> throw new IllegalArgumentException("Invalid choice");
+        };
+        System.out.print("File: ");
+        Path file = Path.of(scanner.nextLine().trim());
+
+        try (OutputStream out = Files.newOutputStream(file)) {
+            long count = taskExporter.export(format, out);
+            System.out.println("Exported " + count + " tasks to " + file.toAbsolutePath());
+        }
+    }
 }
@@ -9,6 +9,30 @@ CREATE TABLE IF NOT EXISTS tasks (
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
 );
 
+-- Indexes matching TaskRepository's query shapes
+-- (TaskRepositoryQueryPlanTest fails if a query stops using them)
+--
+-- findByStatus:           WHERE status = ? ORDER BY created_at DESC
+-- archiveFinishedBefore:  WHERE status IN (...) AND created_at < ?
+CREATE INDEX IF NOT EXISTS idx_tasks_status_created ON tasks (status, created_at DESC, id DESC);
+-- findAll:                ORDER BY created_at DESC  (read in index order, no sort)
+CREATE INDEX IF NOT EXISTS idx_tasks_created ON tasks (created_at DESC, id DESC);
+
+-- Cold partition: COMPLETED/CANCELLED tasks moved out of "tasks" by
+-- TaskArchiver. Same columns, same ids (no AUTO_INCREMENT), plus the time
+-- the row was archived. Keeping "tasks" small keeps its scans and sorts fast.
+CREATE TABLE IF NOT EXISTS tasks_archive (
+    id BIGINT PRIMARY KEY,
+    title VARCHAR(100) NOT NULL,
+    description TEXT,
+    status VARCHAR(20),
+    created_at TIMESTAMP,
+    archived_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+
+-- findByStatusIncludingArchive: WHERE status = ? on the archive side
+CREATE INDEX IF NOT EXISTS idx_tasks_archive_status_created ON tasks_archive (status, created_at DESC, id DESC);
+
 -- Insert sample data (optional)
 INSERT INTO tasks (title, description, status) VALUES
     ('Learn Spring Boot', 'Complete the Spring Boot tutorial', 'IN_PROGRESS'),
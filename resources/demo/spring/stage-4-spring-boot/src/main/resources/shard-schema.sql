@@ -0,0 +1,26 @@
+-- Schema for every shard of ShardedTaskRepository
+-- Executed on each shard at startup when task.sharding.enabled=true
+
+-- Same columns as "tasks" in schema.sql, but the id is assigned by
+-- BlockIdAllocator (unique across shards), not by AUTO_INCREMENT
+CREATE TABLE IF NOT EXISTS tasks (
+    id BIGINT PRIMARY KEY,
+    title VARCHAR(100) NOT NULL,
+    description TEXT,
+    status VARCHAR(20) DEFAULT 'PENDING',
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+
+-- Same shapes as on the single database: per-shard sorted lists for the merge
+CREATE INDEX IF NOT EXISTS idx_tasks_status_created ON tasks (status, created_at DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_tasks_created ON tasks (created_at DESC, id DESC);
+
+-- Id blocks: only the copy on the first shard is used
+CREATE TABLE IF NOT EXISTS task_id_blocks (
+    name VARCHAR(50) PRIMARY KEY,
+    next_id BIGINT NOT NULL
+);
+
+INSERT INTO task_id_blocks (name, next_id)
+    SELECT 'tasks', 1 FROM DUAL
+    WHERE NOT EXISTS (SELECT 1 FROM task_id_blocks WHERE name = 'tasks');
@@ -0,0 +1,208 @@
+package com.example.taskmanager.datasource;
+
+import com.example.taskmanager.model.Task;
+import com.example.taskmanager.service.TaskService;
+import com.example.taskmanager.ui.ConsoleUI;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.init.DatabasePopulatorUtils;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Routing tests for ReadWriteRoutingDataSource + ReadWriteDataSourceConfig.
+ *
+ * =====================================================
+ * HOW DO WE SEE WHERE A QUERY WENT?
+ * =====================================================
+ * The primary and the two replicas are three separate H2 databases with
+ * the same schema.sql rows, but on each replica every title and
+ * description is overwritten with the replica's name:
+ *
+ *     primary     1 | Learn Spring Boot | Complete the Spring Boot tutorial
+ *     replica-0   1 | replica-0         | replica-0
+ *     replica-1   1 | replica-1         | replica-1
+ *
+ * So the task a call returns tells which database answered it. Real
+ * replicas would hold the same data; here "replica lag" is total, which
+ * makes a read from the wrong database impossible to miss.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=" + ReadWriteRoutingDataSourceTest.PRIMARY_URL,
+        "task.datasource.routing-enabled=true",
+        "task.datasource.strategy=round-robin",
+        "task.datasource.replicas[0].url=" + ReadWriteRoutingDataSourceTest.REPLICA_0_URL,
+        "task.datasource.replicas[0].username=sa",
+        "task.datasource.replicas[1].url=" + ReadWriteRoutingDataSourceTest.REPLICA_1_URL,
+        "task.datasource.replicas[1].username=sa",
+        "task.archive.enabled=false"
+})
+class ReadWriteRoutingDataSourceTest {
+
+    static final String PRIMARY_URL = "jdbc:h2:mem:rw-primary;DB_CLOSE_DELAY=-1";
+    static final String REPLICA_0_URL = "jdbc:h2:mem:rw-replica-0;DB_CLOSE_DELAY=-1";
+    static final String REPLICA_1_URL = "jdbc:h2:mem:rw-replica-1;DB_CLOSE_DELAY=-1";
+
+    private static final String PRIMARY_TITLE = "Learn Spring Boot";
+    private static final String PRIMARY_DESCRIPTION = "Complete the Spring Boot tutorial";
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private ReadWriteRoutingDataSource routingDataSource;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    // Application's CommandLineRunner needs one; the mock's run() returns at once
+    @MockBean
+    private ConsoleUI consoleUI;
+
+    /**
+     * Replicas get their schema by replication in production; here it is
+     * created by hand, then marked with the replica's name.
+     */
+    @BeforeAll
+    static void createReplicas() {
+        ResourceDatabasePopulator schema = new ResourceDatabasePopulator(new ClassPathResource("schema.sql"));
+        String[][] replicas = {{"replica-0", REPLICA_0_URL}, {"replica-1", REPLICA_1_URL}};
+        for (String[] replica : replicas) {
+            DriverManagerDataSource database = new DriverManagerDataSource(replica[1], "sa", "");
+            DatabasePopulatorUtils.execute(schema, database);
+            new JdbcTemplate(database).update("UPDATE tasks SET title = ?, description = ?", replica[0], replica[0]);
+        }
+    }
+
+    @Test
+    @DisplayName("read-only finders alternate between the replicas (round-robin)")
+    void readOnlyFinders_RoundRobin_AlternateBetweenReplicas() {
+        // Act
+        List<String> answeredBy = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            answeredBy.add(taskService.getTaskById(1L).orElseThrow().getTitle());
+        }
+
+        // Assert
+        assertThat(answeredBy).allMatch(title -> title.startsWith("replica-"));
+        assertThat(answeredBy.get(1)).isNotEqualTo(answeredBy.get(0));
+        assertThat(answeredBy.get(2)).isEqualTo(answeredBy.get(0));
+        assertThat(answeredBy.get(3)).isEqualTo(answeredBy.get(1));
+        assertThat(taskService.getAllTasks()).allMatch(task -> task.getTitle().startsWith("replica-"));
+    }
+
+    @Test
+    @DisplayName("least-loaded picks the replica with fewer borrowed connections")
+    void readOnlyQuery_LeastLoaded_AvoidsBusyReplica() throws Exception {
+        // Arrange
+        ReadWriteRoutingDataSource leastLoaded = new ReadWriteRoutingDataSource(
+                routingDataSource.getResolvedDefaultDataSource(),
+                routingDataSource.getReplicas(),
+                ReadWriteRoutingDataSource.Strategy.LEAST_LOADED);
+        leastLoaded.afterPropertiesSet();
+        DataSource lazy = new LazyConnectionDataSourceProxy(leastLoaded);
+        Supplier<String> readOnlyQuery = () -> titleOfTask1(lazy, new DataSourceTransactionManager(lazy), true);
+        LoadTrackingDataSource replica0 = routingDataSource.getReplicas().get(0);
+
+        // Act: replica-0 is busy while the queries run
+        List<String> answeredBy = new ArrayList<>();
+        try (Connection busy = replica0.getConnection()) {
+            for (int i = 0; i < 3; i++) {
+                answeredBy.add(readOnlyQuery.get());
+            }
+        }
+
+        // Assert
+        assertThat(answeredBy).containsOnly("replica-1");
+        assertThat(replica0.getActiveConnections()).isZero();
+    }
+
+    @Test
+    @DisplayName("writes go to the primary only")
+    void createTask_WritesToPrimary() {
+        // Act
+        Task created = taskService.createTask("Routed write", "must land on the primary");
+
+        // Assert
+        assertThat(countTitled(routingDataSource.getResolvedDefaultDataSource(), "Routed write")).isEqualTo(1);
+        for (LoadTrackingDataSource replica : routingDataSource.getReplicas()) {
+            assertThat(countTitled(replica, "Routed write")).as(replica.getName()).isZero();
+        }
+        assertThat(created.getId()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("read-modify-write service methods read from the primary, not a replica")
+    void readModifyWrite_ReadsAndWritesPrimary() {
+        // Arrange
+        long replicaConnectionsBefore = replicaConnections();
+        Long id = taskService.createTask("Read-modify-write", PRIMARY_DESCRIPTION).getId();
+
+        // Act
+        Task updated = taskService.updateTask(id, "Renamed", null);
+        Task started = taskService.startTask(id);
+        Task completed = taskService.completeTask(id);
+        taskService.deleteTask(id);
+
+        // Assert: each find saw the primary's row, and no replica was asked
+        assertThat(updated.getDescription()).isEqualTo(PRIMARY_DESCRIPTION);
+        assertThat(started.getTitle()).isEqualTo("Renamed");
+        assertThat(completed.getTitle()).isEqualTo("Renamed");
+        assertThat(replicaConnections()).isEqualTo(replicaConnectionsBefore);
+        assertThat(countTitled(routingDataSource.getResolvedDefaultDataSource(), "Renamed")).isZero();
+    }
+
+    @Test
+    @DisplayName("the lazy proxy routes after the read-only flag is set; without it reads hit the primary")
+    void lazyProxy_DecidesRouteAfterReadOnlyFlag() {
+        // Act
+        String withProxy = titleOfTask1(dataSource, transactionManager, true);
+        String withoutProxy = titleOfTask1(routingDataSource, new DataSourceTransactionManager(routingDataSource), true);
+
+        // Assert
+        assertThat(dataSource).isInstanceOf(LazyConnectionDataSourceProxy.class);
+        assertThat(withProxy).startsWith("replica-");
+        // The transaction manager fetched the connection before marking the
+        // transaction read-only, so the router still saw a read-write call
+        assertThat(withoutProxy).isEqualTo(PRIMARY_TITLE);
+    }
+
+    /** Title of task 1, read in a transaction with the given read-only flag. */
+    private static String titleOfTask1(DataSource dataSource, PlatformTransactionManager transactionManager,
+                                       boolean readOnly) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setReadOnly(readOnly);
+        return transaction.execute(status -> new JdbcTemplate(dataSource)
+                .queryForObject("SELECT title FROM tasks WHERE id = 1", String.class));
+    }
+
+    private static int countTitled(DataSource database, String title) {
+        return new JdbcTemplate(database).queryForObject("SELECT COUNT(*) FROM tasks WHERE title = ?",
+                Integer.class, title);
+    }
+
+    private long replicaConnections() {
+        return routingDataSource.getReplicas().stream().mapToLong(LoadTrackingDataSource::getTotalConnections).sum();
+    }
+}
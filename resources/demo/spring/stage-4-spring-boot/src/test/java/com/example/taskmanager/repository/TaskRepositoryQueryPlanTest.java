@@ -0,0 +1,314 @@
+package com.example.taskmanager.repository;
+
+import com.example.taskmanager.model.Task;
+import com.example.taskmanager.model.TaskStatus;
+import com.example.taskmanager.ui.ConsoleUI;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Query-plan regression tests for TaskRepository.
+ *
+ * =====================================================
+ * WHY?
+ * =====================================================
+ * A query that loses its index still returns the right rows - on 3 rows
+ * nobody notices. On 3 million rows it reads the whole table. So instead of
+ * checking results, these tests check HOW H2 executes each statement:
+ *
+ *     1. Call a repository method (the DataSource records its SQL)
+ *     2. Run EXPLAIN <sql> for every recorded statement
+ *     3. Fail if the plan contains "tableScan"
+ *
+ *     EXPLAIN SELECT * FROM tasks WHERE status = ? ORDER BY created_at DESC
+ *     -> ... FROM PUBLIC.TASKS  PUBLIC.IDX_TASKS_STATUS_CREATED: STATUS = ?1   (ok)
+ *
+ *     EXPLAIN SELECT * FROM tasks WHERE title = ?
+ *     -> ... FROM PUBLIC.TASKS  PUBLIC.TASKS.tableScan                        (fails)
+ *
+ * =====================================================
+ * ADDING A REPOSITORY METHOD?
+ * =====================================================
+ * Add a case to CASES. repositoryMethodsHaveACase() fails for any public
+ * method without one, so no query reaches the repository unchecked.
+ * A method that really has to read everything goes in FULL_SCAN_ALLOWED,
+ * together with the reason.
+ *
+ * @JdbcTest: embedded H2 + schema.sql, each test rolled back.
+ */
+@JdbcTest
+@Import({TaskRepository.class, TaskRepositoryQueryPlanTest.SqlRecorderConfig.class})
+class TaskRepositoryQueryPlanTest {
+
+    /**
+     * Every public TaskRepository method, with a call that runs its SQL.
+     */
+    private static final Map<String, Consumer<TaskRepository>> CASES = new LinkedHashMap<>();
+
+    static {
+        CASES.put("save", repository -> repository.save(new Task("Plan", "save")));
+        CASES.put("saveAll", repository -> repository.saveAll(
+                List.of(new Task("Plan", "saveAll 1"), new Task("Plan", "saveAll 2"))));
+        CASES.put("findById", repository -> repository.findById(1L));
+        CASES.put("findAll", TaskRepository::findAll);
+        CASES.put("findAllIncludingArchive", TaskRepository::findAllIncludingArchive);
+        CASES.put("findByStatusIncludingArchive",
+                repository -> repository.findByStatusIncludingArchive(TaskStatus.COMPLETED));
+        CASES.put("forEachTask", repository -> repository.forEachTask(task -> { }));
+        CASES.put("update", repository -> repository.update(
+                new Task(1L, "Plan", "update", TaskStatus.IN_PROGRESS, LocalDateTime.now())));
+        CASES.put("updateAll", repository -> repository.updateAll(List.of(
+                new Task(1L, "Plan", "updateAll", TaskStatus.IN_PROGRESS, LocalDateTime.now()))));
+        CASES.put("updateStatusForIds",
+                repository -> repository.updateStatusForIds(List.of(1L, 2L), TaskStatus.COMPLETED));
+        // Old enough, finished task: archiving really copies + deletes it
+        CASES.put("archiveFinishedBefore", repository -> {
+            repository.updateStatusForIds(List.of(1L), TaskStatus.COMPLETED);
+            repository.archiveFinishedBefore(LocalDateTime.now().plusDays(1), 10);
+        });
+        CASES.put("deleteById", repository -> repository.deleteById(3L));
+        CASES.put("findByStatus", repository -> repository.findByStatus(TaskStatus.PENDING));
+    }
+
+    /**
+     * Methods that may scan, and why. Keep this list short.
+     */
+    private static final Map<String, String> FULL_SCAN_ALLOWED = Map.of(
+            "findAllIncludingArchive", "opt-in history listing: reads every row of both tables by design");
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private SqlRecorder sqlRecorder;
+
+    // Application's CommandLineRunner needs one; the mock's run() returns at once
+    @MockBean
+    private ConsoleUI consoleUI;
+
+    @BeforeEach
+    void clearRecordedSql() {
+        sqlRecorder.clear();
+    }
+
+    @TestFactory
+    @DisplayName("every repository query uses an index")
+    Stream<DynamicTest> repositoryQueries_UseIndexes() {
+        return CASES.entrySet().stream().map(entry -> DynamicTest.dynamicTest(entry.getKey(), () -> {
+            // Arrange
+            sqlRecorder.clear();
+
+            // Act
+            entry.getValue().accept(taskRepository);
+            List<String> statements = sqlRecorder.statements();
+
+            // Assert
+            assertThat(statements).as("SQL run by %s", entry.getKey()).isNotEmpty();
+            if (FULL_SCAN_ALLOWED.containsKey(entry.getKey())) {
+                return;
+            }
+            for (String sql : statements) {
+                assertThat(explain(sql))
+                        .as("plan of %s: %s", entry.getKey(), sql)
+                        .doesNotContainIgnoringCase("tableScan");
+            }
+        }));
+    }
+
+    @Test
+    @DisplayName("every public repository method has a query-plan case")
+    void repositoryMethodsHaveACase() {
+        // Arrange
+        Set<String> publicMethods = Arrays.stream(TaskRepository.class.getDeclaredMethods())
+                .filter(method -> Modifier.isPublic(method.getModifiers()))
+                .map(Method::getName)
+                .collect(Collectors.toSet());
+
+        // Assert
+        assertThat(CASES.keySet()).containsExactlyInAnyOrderElementsOf(publicMethods);
+        assertThat(publicMethods).containsAll(FULL_SCAN_ALLOWED.keySet());
+    }
+
+    @Test
+    @DisplayName("the check itself - a query on an unindexed column is reported as tableScan")
+    void explain_UnindexedColumn_ReportsTableScan() {
+        // Act
+        String plan = explain("SELECT * FROM tasks WHERE title = ?");
+
+        // Assert
+        assertThat(plan).containsIgnoringCase("tableScan");
+    }
+
+    /**
+     * H2's plan for the statement. Parameters stay unbound: the plan is
+     * the same for every value.
+     */
+    private String explain(String sql) {
+        return jdbcTemplate.execute((Connection connection) -> {
+            try (PreparedStatement ps = connection.prepareStatement("EXPLAIN " + sql);
+                 ResultSet rs = ps.executeQuery()) {
+                StringBuilder plan = new StringBuilder();
+                while (rs.next()) {
+                    plan.append(rs.getString(1)).append('\n');
+                }
+                return plan.toString();
+            }
+        });
+    }
+
+    // =====================================================
+    // SQL recording
+    // =====================================================
+
+    /**
+     * Collects the SQL of every statement prepared or executed through the
+     * recording DataSource.
+     */
+    static class SqlRecorder {
+
+        private final List<String> statements = Collections.synchronizedList(new ArrayList<>());
+
+        void record(String sql) {
+            // EXPLAIN runs through the same DataSource - not a repository query
+            if (!sql.startsWith("EXPLAIN ")) {
+                statements.add(sql);
+            }
+        }
+
+        List<String> statements() {
+            synchronized (statements) {
+                // Batches and loops prepare the same SQL many times
+                return List.copyOf(new LinkedHashSet<>(statements));
+            }
+        }
+
+        void clear() {
+            statements.clear();
+        }
+    }
+
+    /**
+     * Wraps the test DataSource so that every connection reports its SQL to
+     * the SqlRecorder. Wrapping the bean itself (instead of building a second
+     * JdbcTemplate) keeps the transaction manager and the repository on the
+     * same DataSource, so @Transactional methods behave as in production.
+     */
+    @TestConfiguration
+    static class SqlRecorderConfig {
+
+        @Bean
+        static SqlRecorder sqlRecorder() {
+            return new SqlRecorder();
+        }
+
+        // ObjectProvider: asking for SqlRecorder itself would create it while the
+        // post-processors are still being registered (BeanPostProcessorChecker warning)
+        @Bean
+        static BeanPostProcessor recordingDataSourcePostProcessor(ObjectProvider<SqlRecorder> sqlRecorder) {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if (bean instanceof DataSource dataSource) {
+                        return new RecordingDataSource(dataSource, sqlRecorder.getObject());
+                    }
+                    return bean;
+                }
+            };
+        }
+    }
+
+    static class RecordingDataSource extends DelegatingDataSource {
+
+        private final SqlRecorder sqlRecorder;
+
+        RecordingDataSource(DataSource target, SqlRecorder sqlRecorder) {
+            super(target);
+            this.sqlRecorder = sqlRecorder;
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return recording(super.getConnection());
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return recording(super.getConnection(username, password));
+        }
+
+        private Connection recording(Connection connection) {
+            return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(),
+                    new Class<?>[] {Connection.class}, (proxy, method, args) -> {
+                        // prepareStatement(sql, ...) / prepareCall(sql, ...): SQL is the first argument
+                        if (method.getName().startsWith("prepare") && args != null && args[0] instanceof String sql) {
+                            sqlRecorder.record(sql);
+                        }
+                        Object result = invoke(connection, method, args);
+                        // createStatement(): SQL only arrives with execute*(sql)
+                        if (result instanceof Statement statement && !(result instanceof PreparedStatement)) {
+                            return recording(statement);
+                        }
+                        return result;
+                    });
+        }
+
+        private Statement recording(Statement statement) {
+            return (Statement) Proxy.newProxyInstance(getClass().getClassLoader(),
+                    new Class<?>[] {Statement.class}, (proxy, method, args) -> {
+                        if (method.getName().startsWith("execute") && args != null && args[0] instanceof String sql) {
+                            sqlRecorder.record(sql);
+                        }
+                        return invoke(statement, method, args);
+                    });
+        }
+
+        private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+}
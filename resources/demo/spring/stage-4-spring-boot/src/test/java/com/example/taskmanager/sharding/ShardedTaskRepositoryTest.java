@@ -0,0 +1,217 @@
+package com.example.taskmanager.sharding;
+
+import com.example.taskmanager.model.Task;
+import com.example.taskmanager.model.TaskStatus;
+import com.example.taskmanager.ui.ConsoleUI;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ShardedTaskRepository on three in-memory H2 shards, wired by ShardingConfig
+ * exactly as task.sharding.* would in application.properties.
+ *
+ * =====================================================
+ * WHAT IS CHECKED?
+ * =====================================================
+ *     findById             reads the ONE shard the ring picks
+ *     BlockIdAllocator     ids never repeat, not even across two allocators
+ *     findAll/findByStatus every shard's rows, merged newest first
+ *     ConsistentHashRing   a 4th shard takes over ~1/4 of the ids, not ~3/4
+ *
+ * Every test starts with empty shards; the id blocks keep counting.
+ */
+@SpringBootTest(properties = {
+        "task.sharding.enabled=true",
+        "task.sharding.id-block-size=50",
+        "task.sharding.shards[0].name=shard-a",
+        "task.sharding.shards[0].url=jdbc:h2:mem:test-shard-a",
+        "task.sharding.shards[0].username=sa",
+        "task.sharding.shards[1].name=shard-b",
+        "task.sharding.shards[1].url=jdbc:h2:mem:test-shard-b",
+        "task.sharding.shards[1].username=sa",
+        "task.sharding.shards[2].name=shard-c",
+        "task.sharding.shards[2].url=jdbc:h2:mem:test-shard-c",
+        "task.sharding.shards[2].username=sa",
+        "task.archive.enabled=false"
+})
+class ShardedTaskRepositoryTest {
+
+    private static final Comparator<Task> NEWEST_FIRST =
+            Comparator.comparing(Task::getCreatedAt).thenComparing(Task::getId).reversed();
+
+    @Autowired
+    private ShardedTaskRepository repository;
+
+    // Application's CommandLineRunner needs one; the mock's run() returns at once
+    @MockBean
+    private ConsoleUI consoleUI;
+
+    @BeforeEach
+    void emptyShards() {
+        for (ShardedTaskRepository.Shard shard : repository.getShards()) {
+            shard.jdbcTemplate().update("DELETE FROM tasks");
+        }
+    }
+
+    @Test
+    @DisplayName("each task is stored on one shard, and findById reads only that shard")
+    void findById_ReadsOnlyTheOwningShard() {
+        // Arrange
+        List<Task> saved = saveTasks(30);
+        Task task = saved.get(0);
+        ShardedTaskRepository.Shard owner = repository.shardFor(task.getId());
+        // Same id with another title on every other shard: reading one of
+        // them would return the decoy
+        for (ShardedTaskRepository.Shard shard : repository.getShards()) {
+            if (shard != owner) {
+                shard.jdbcTemplate().update("INSERT INTO tasks (id, title) VALUES (?, ?)",
+                        task.getId(), "decoy on " + shard.name());
+            }
+        }
+
+        // Act
+        Task found = repository.findById(task.getId()).orElseThrow();
+
+        // Assert
+        assertThat(found.getTitle()).isEqualTo(task.getTitle());
+        for (Task other : saved.subList(1, saved.size())) {
+            assertThat(shardsHolding(other.getId())).as("shards holding id %d", other.getId())
+                    .containsExactly(repository.shardFor(other.getId()).name());
+        }
+    }
+
+    @Test
+    @DisplayName("ids are unique across shards and across allocator instances")
+    void idAllocator_IdsAreUniqueAcrossShards() {
+        // Arrange: a second application instance reserving from the same table
+        JdbcTemplate coordinator = repository.getShards().get(0).jdbcTemplate();
+        BlockIdAllocator otherInstance = new BlockIdAllocator(coordinator,
+                new TransactionTemplate(new DataSourceTransactionManager(coordinator.getDataSource())), 7);
+
+        // Act
+        List<Task> saved = saveTasks(300);
+        List<Long> otherIds = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            otherIds.add(otherInstance.nextId());
+        }
+
+        // Assert
+        Set<Long> rowIds = new HashSet<>();
+        int rows = 0;
+        for (ShardedTaskRepository.Shard shard : repository.getShards()) {
+            List<Long> ids = shard.jdbcTemplate().queryForList("SELECT id FROM tasks", Long.class);
+            assertThat(ids).as("tasks on %s", shard.name()).isNotEmpty();
+            rowIds.addAll(ids);
+            rows += ids.size();
+        }
+        assertThat(rows).isEqualTo(saved.size());
+        assertThat(rowIds).hasSize(saved.size());
+        assertThat(otherIds).doesNotHaveDuplicates().doesNotContainAnyElementsOf(rowIds);
+    }
+
+    @Test
+    @DisplayName("findAll and findByStatus merge every shard's rows newest first")
+    void findAllAndFindByStatus_MergeShardsNewestFirst() {
+        // Arrange: shuffled creation times, several tasks per second
+        List<Task> saved = saveTasks(120);
+
+        // Act
+        List<Task> all = repository.findAll();
+        List<Task> pending = repository.findByStatus(TaskStatus.PENDING);
+
+        // Assert
+        assertThat(all).extracting(Task::getId)
+                .containsExactlyElementsOf(saved.stream().sorted(NEWEST_FIRST).map(Task::getId).toList());
+        assertThat(pending).extracting(Task::getId).containsExactlyElementsOf(saved.stream()
+                .filter(task -> task.getStatus() == TaskStatus.PENDING)
+                .sorted(NEWEST_FIRST)
+                .map(Task::getId)
+                .toList());
+        assertThat(pending).isNotEmpty().hasSizeLessThan(all.size());
+    }
+
+    @Test
+    @DisplayName("adding a 4th shard moves ~1/4 of the ids, all of them to the new shard")
+    void consistentHashRing_AddingShard_MovesAboutOneNth() {
+        // Arrange
+        Map<String, String> three = new LinkedHashMap<>();
+        for (String name : List.of("shard-a", "shard-b", "shard-c")) {
+            three.put(name, name);
+        }
+        Map<String, String> four = new LinkedHashMap<>(three);
+        four.put("shard-d", "shard-d");
+        ConsistentHashRing<String> before = new ConsistentHashRing<>(three, 64);
+        ConsistentHashRing<String> after = new ConsistentHashRing<>(four, 64);
+        int keys = 100_000;
+
+        // Act
+        int moved = 0;
+        int movedElsewhere = 0;
+        int movedByModulo = 0;
+        for (long id = 1; id <= keys; id++) {
+            String owner = after.nodeFor(id);
+            if (!owner.equals(before.nodeFor(id))) {
+                moved++;
+                if (!owner.equals("shard-d")) {
+                    movedElsewhere++;
+                }
+            }
+            if (id % 3 != id % 4) {
+                movedByModulo++;
+            }
+        }
+
+        // Assert
+        assertThat(moved / (double) keys).isBetween(0.15, 0.35);
+        assertThat(movedElsewhere).isZero();
+        assertThat(movedByModulo / (double) keys).isGreaterThan(0.7);
+    }
+
+    /**
+     * Saves tasks with shuffled creation times, a third of them COMPLETED,
+     * and returns them with their ids.
+     */
+    private List<Task> saveTasks(int count) {
+        Random random = new Random(42);
+        LocalDateTime base = LocalDateTime.of(2024, 1, 1, 12, 0);
+        List<Task> saved = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            TaskStatus status = i % 3 == 0 ? TaskStatus.COMPLETED : TaskStatus.PENDING;
+            // count / 2 distinct seconds: ties are ordered by id, as in the SQL
+            LocalDateTime createdAt = base.plusSeconds(random.nextInt(count / 2));
+            saved.add(repository.save(new Task(null, "Task " + i, "sharded", status, createdAt)));
+        }
+        return saved;
+    }
+
+    private List<String> shardsHolding(long id) {
+        List<String> names = new ArrayList<>();
+        for (ShardedTaskRepository.Shard shard : repository.getShards()) {
+            Integer rows = shard.jdbcTemplate().queryForObject("SELECT COUNT(*) FROM tasks WHERE id = ?",
+                    Integer.class, id);
+            if (rows > 0) {
+                names.add(shard.name());
+            }
+        }
+        return names;
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.taskmanager.cache;
+
+import org.springframework.stereotype.Component;
+
+import javax.cache.management.CacheStatisticsMXBean;
+import javax.management.JMX;
+import javax.management.MBeanServer;
+import javax.management.MalformedObjectNameException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Per-region statistics of the second-level cache.
+ *
+ * Every JCache provider publishes a standard CacheStatisticsMXBean per
+ * cache when statistics are enabled (monitoring.statistics in
+ * application.conf). Reading those instead of Hibernate's own statistics
+ * gives evictions too - the number that says a region is too small - and
+ * does not need hibernate.generate_statistics.
+ *
+ * The same numbers are visible in JConsole / VisualVM under javax.cache.
+ */
+@Component
+public class CacheStatistics {
+
+    /**
+     * Counters of one cache region since startup.
+     */
+    public record RegionStatistics(String region, long hits, long misses, long puts, long evictions) {
+
+        /** Share of lookups answered from the cache, 0-100. */
+        public double hitPercentage() {
+            long lookups = hits + misses;
+            return lookups == 0 ? 0 : 100.0 * hits / lookups;
+        }
+    }
+
+    private final MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+
+    public List<RegionStatistics> regions() {
+        return mBeanServer.queryNames(pattern(), null).stream()
+                .map(name -> {
+                    CacheStatisticsMXBean stats = JMX.newMXBeanProxy(mBeanServer, name, CacheStatisticsMXBean.class);
+                    return new RegionStatistics(
+                            name.getKeyProperty("Cache"),
+                            stats.getCacheHits(),
+                            stats.getCacheMisses(),
+                            stats.getCachePuts(),
+                            stats.getCacheEvictions());
+                })
+                .sorted(Comparator.comparing(RegionStatistics::region))
+                .toList();
+    }
+
+    private static ObjectName pattern() {
+        try {
+            return new ObjectName("javax.cache:type=CacheStatistics,*");
+        } catch (MalformedObjectNameException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
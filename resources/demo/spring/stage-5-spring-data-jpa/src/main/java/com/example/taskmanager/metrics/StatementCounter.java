@@ -0,0 +1,86 @@
+package com.example.taskmanager.metrics;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Counts the SQL statements Hibernate prepares, per thread.
+ *
+ * Fed by StatementCountingInspector. Because the count only grows, the
+ * statements of any piece of code are the difference before and after:
+ *
+ *     long before = StatementCounter.count();
+ *     taskService.getAllTasks();
+ *     long statements = StatementCounter.count() - before;
+ *
+ * This works for nested calls too, and costs one ThreadLocal increment
+ * per statement. Only statements on the calling thread are counted.
+ *
+ * With JDBC batching, a batch is ONE statement: it is prepared once and
+ * executed with many rows.
+ */
+public final class StatementCounter {
+
+    private static final ThreadLocal<Counts> COUNTS = ThreadLocal.withInitial(Counts::new);
+
+    private static final class Counts {
+        long count;
+        List<String> recording;
+    }
+
+    private StatementCounter() {
+    }
+
+    /** Statements prepared on this thread so far. */
+    public static long count() {
+        return COUNTS.get().count;
+    }
+
+    /**
+     * Keeps the SQL of every statement on this thread until the recording
+     * is closed - for error messages that show WHICH queries ran.
+     */
+    public static Recording record() {
+        Counts counts = COUNTS.get();
+        List<String> previous = counts.recording;
+        counts.recording = new ArrayList<>();
+        return new Recording(counts, previous);
+    }
+
+    static void increment(String sql) {
+        Counts counts = COUNTS.get();
+        counts.count++;
+        if (counts.recording != null) {
+            counts.recording.add(sql);
+        }
+    }
+
+    /**
+     * SQL captured between record() and close().
+     */
+    public static final class Recording implements AutoCloseable {
+
+        private final Counts counts;
+        private final List<String> statements;
+        private final List<String> previous;
+
+        private Recording(Counts counts, List<String> previous) {
+            this.counts = counts;
+            this.statements = counts.recording;
+            this.previous = previous;
+        }
+
+        public List<String> statements() {
+            return List.copyOf(statements);
+        }
+
+        @Override
+        public void close() {
+            // An enclosing recording sees the statements of this one too
+            if (previous != null) {
+                previous.addAll(statements);
+            }
+            counts.recording = previous;
+        }
+    }
+}
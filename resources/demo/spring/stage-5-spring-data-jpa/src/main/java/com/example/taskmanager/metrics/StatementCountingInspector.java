@@ -0,0 +1,18 @@
+package com.example.taskmanager.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate calls inspect() with the SQL of every statement it is about
+ * to prepare. It could rewrite the SQL; here it only counts it.
+ *
+ * Registered by StatementMetricsConfig.
+ */
+public class StatementCountingInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        StatementCounter.increment(sql);
+        return sql;
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.taskmanager.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Read side of the statement metrics, for the console (menu option 10).
+ *
+ * Two sources:
+ * - task.service.statements (StatementMetricsAspect): per service method
+ * - Hibernate Statistics (hibernate.generate_statistics=true): totals for
+ *   the whole application. Spring Boot also publishes them as hibernate.*
+ *   meters.
+ */
+@Component
+public class StatementMetrics {
+
+    /**
+     * Statements issued by one service method since startup.
+     */
+    public record MethodStatements(String method, long calls, long statements, long max) {
+
+        public double average() {
+            return calls == 0 ? 0 : (double) statements / calls;
+        }
+    }
+
+    private final MeterRegistry meterRegistry;
+    private final Statistics statistics;
+
+    public StatementMetrics(MeterRegistry meterRegistry, EntityManagerFactory entityManagerFactory) {
+        this.meterRegistry = meterRegistry;
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    public List<MethodStatements> perMethod() {
+        return meterRegistry.find(StatementMetricsAspect.METRIC).summaries().stream()
+                .map(StatementMetrics::toMethodStatements)
+                .sorted(Comparator.comparing(MethodStatements::method))
+                .toList();
+    }
+
+    public Statistics hibernateStatistics() {
+        return statistics;
+    }
+
+    private static MethodStatements toMethodStatements(DistributionSummary summary) {
+        return new MethodStatements(
+                summary.getId().getTag("method"),
+                summary.count(),
+                (long) summary.totalAmount(),
+                (long) summary.max());
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.taskmanager.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Records how many SQL statements every public service method issued.
+ *
+ * Each call adds one sample to the "task.service.statements" distribution
+ * summary, tagged with the method:
+ *
+ *     task.service.statements{method="TaskService.getAllTasks"}
+ *         count = calls, total = statements, max = worst call
+ *
+ * A method whose max grows with the amount of data is an N+1 query.
+ *
+ * HIGHEST_PRECEDENCE: runs outside the @Transactional advice, so the
+ * statements executed at commit (flushed INSERTs and UPDATEs) are included.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class StatementMetricsAspect {
+
+    static final String METRIC = "task.service.statements";
+
+    private final MeterRegistry meterRegistry;
+
+    public StatementMetricsAspect(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Around("execution(public * com.example.taskmanager.service..*(..))")
+    public Object count(ProceedingJoinPoint joinPoint) throws Throwable {
+        long before = StatementCounter.count();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            DistributionSummary.builder(METRIC)
+                    .description("SQL statements per service call")
+                    .tag("method", joinPoint.getSignature().getDeclaringType().getSimpleName()
+                            + "." + joinPoint.getSignature().getName())
+                    .register(meterRegistry)
+                    .record(StatementCounter.count() - before);
+        }
+    }
+}
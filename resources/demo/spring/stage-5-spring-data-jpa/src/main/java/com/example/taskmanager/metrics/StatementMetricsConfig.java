@@ -0,0 +1,27 @@
+package com.example.taskmanager.metrics;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Plugs StatementCountingInspector into Hibernate.
+ *
+ * hibernate.session_factory.statement_inspector could also name the
+ * class in application.properties; a customizer passes the instance
+ * instead, so it can be a Spring bean.
+ */
+@Configuration
+public class StatementMetricsConfig {
+
+    @Bean
+    public StatementCountingInspector statementCountingInspector() {
+        return new StatementCountingInspector();
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer statementInspectorCustomizer(StatementCountingInspector inspector) {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, inspector);
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.taskmanager.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * The columns a task list shows - a projection, not an entity.
+ *
+ * WHY NOT JUST LOAD Task?
+ * A Task entity is managed: Hibernate keeps a copy of its state for dirty
+ * checking until the transaction ends, and loads every column including
+ * the TEXT description. A list view needs none of that.
+ *
+ * TaskRepository fills this record with a JPQL constructor expression:
+ *
+ *     SELECT new com.example.taskmanager.model.TaskSummary(t.id, t.title, t.status, t.createdAt)
+ *     FROM Task t ...
+ *
+ * Only these four columns are selected, and the results are plain
+ * objects that the persistence context never sees.
+ */
+public record TaskSummary(Long id, String title, TaskStatus status, LocalDateTime createdAt) {
+
+    @Override
+    public String toString() {
+        return String.format("[%d] %s (%s)", id, title, status);
+    }
+}
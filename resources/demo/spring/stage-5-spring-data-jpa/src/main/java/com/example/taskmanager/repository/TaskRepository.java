@@ -2,9 +2,21 @@ package com.example.taskmanager.repository;
 
 import com.example.taskmanager.model.Task;
 import com.example.taskmanager.model.TaskStatus;
+import com.example.taskmanager.model.TaskSummary;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -28,6 +40,13 @@ import java.util.List;
  *
  * Spring Data JPA generates the implementation at runtime.
  * You write interface, Spring writes SQL!
+ *
+ * CACHING:
+ * findById() goes through the second-level cache of Task automatically.
+ * The status lookups are marked cacheable: their result (a list of ids)
+ * is kept in the "task-status-queries" region, the tasks themselves come
+ * from the entity cache. Any write to the tasks table invalidates every
+ * cached query result, so cached lists are never stale.
  */
 @Repository
 public interface TaskRepository extends JpaRepository<Task, Long> {
@@ -40,6 +59,10 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
      *
      * No SQL needed!
      */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "task-status-queries")
+    })
     List<Task> findByStatus(TaskStatus status);
 
     /**
@@ -54,8 +77,117 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
      *
      * Generates: SELECT * FROM tasks WHERE status = ? ORDER BY created_at DESC
      */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "task-status-queries")
+    })
     List<Task> findByStatusOrderByCreatedAtDesc(TaskStatus status);
 
+    /**
+     * List view of all tasks, newest first - see TaskSummary.
+     *
+     * Selects id, title, status, created_at only: no description, no
+     * managed entities, no dirty-checking snapshots.
+     */
+    @Query("SELECT new com.example.taskmanager.model.TaskSummary(t.id, t.title, t.status, t.createdAt)"
+            + " FROM Task t ORDER BY t.createdAt DESC")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    List<TaskSummary> findAllSummaries();
+
+    /**
+     * List view of the tasks with one status, newest first.
+     *
+     * Cacheable like the entity version: the query cache stores the
+     * projected values themselves, invalidated by any write to tasks.
+     */
+    @Query("SELECT new com.example.taskmanager.model.TaskSummary(t.id, t.title, t.status, t.createdAt)"
+            + " FROM Task t WHERE t.status = :status ORDER BY t.createdAt DESC")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "task-status-queries")
+    })
+    List<TaskSummary> findSummariesByStatus(@Param("status") TaskStatus status);
+
+    /*
+     * =====================================================
+     * KEYSET SCROLLING
+     * =====================================================
+     * OFFSET paging reads and throws away all earlier rows:
+     *
+     *     ... ORDER BY created_at DESC OFFSET 100000 ROWS FETCH FIRST 20 ROWS ONLY
+     *     -> reads 100,020 rows to return 20
+     *
+     * Keyset scrolling remembers the last row of the previous window and
+     * continues from there:
+     *
+     *     ... WHERE created_at < ?1 OR (created_at = ?1 AND id < ?2)
+     *         ORDER BY created_at DESC, id DESC FETCH FIRST 20 ROWS ONLY
+     *     -> reads 20 rows (via idx_tasks_created_id) however deep you are
+     *
+     * id is part of the sort so that the position is unique even when two
+     * tasks have the same created_at. Start with ScrollPosition.keyset(),
+     * then pass window.positionAt(window.size() - 1) for the next window.
+     *
+     * CacheMode IGNORE: a scroll over the whole table must not push the hot
+     * tasks out of the second-level cache.
+     *
+     * @Transactional(readOnly = true): query methods declared here get no
+     * transaction of their own. With it, a window fetched outside any
+     * transaction (TaskService.iterateAllTasks) runs in a short read-only
+     * one; inside a caller's transaction it simply joins.
+     */
+
+    @Transactional(readOnly = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHE_MODE, value = "IGNORE"))
+    Window<Task> findAllByOrderByCreatedAtDescIdDesc(ScrollPosition position, Limit limit);
+
+    @Transactional(readOnly = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHE_MODE, value = "IGNORE"))
+    Window<Task> findByStatusOrderByCreatedAtDescIdDesc(TaskStatus status, ScrollPosition position, Limit limit);
+
+    /*
+     * =====================================================
+     * BULK OPERATIONS
+     * =====================================================
+     * Changing 10,000 tasks one by one means 10,000 entities loaded,
+     * dirty-checked and flushed as 10,000 UPDATEs. A JPQL bulk statement
+     * is ONE statement, executed by the database:
+     *
+     *     UPDATE tasks SET status = ? WHERE status = ? AND created_at < ?
+     *
+     * It bypasses the persistence context, so entities already loaded in
+     * the same transaction would keep their old state:
+     *
+     * - flushAutomatically: pending changes are written BEFORE the bulk
+     *   statement (otherwise clearing would silently discard them)
+     * - clearAutomatically: the persistence context is cleared AFTER it,
+     *   so later reads load the new state
+     *
+     * Hibernate also invalidates the Task cache region and the cached
+     * queries on tasks. Served by idx_tasks_status_created_id.
+     */
+
+    /**
+     * @return number of tasks changed
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Task t SET t.status = :newStatus WHERE t.status = :status AND t.createdAt < :before")
+    int updateStatusWhereStatusAndCreatedBefore(@Param("status") TaskStatus status,
+                                                @Param("before") LocalDateTime before,
+                                                @Param("newStatus") TaskStatus newStatus);
+
+    /**
+     * A derived deleteBy... method would load every task and delete them
+     * one by one; the explicit @Query makes it one DELETE.
+     *
+     * @return number of tasks deleted
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Task t WHERE t.status = :status AND t.createdAt < :before")
+    int deleteByStatusAndCreatedBefore(@Param("status") TaskStatus status,
+                                       @Param("before") LocalDateTime before);
+
     /*
      * More examples of derived query methods:
      *
@@ -72,6 +204,7 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
      *   -> SELECT EXISTS(...)
      *
      * void deleteByStatus(TaskStatus status);
-     *   -> DELETE WHERE status = ?
+     *   -> SELECT WHERE status = ?, then one DELETE per task
+     *      (see deleteByStatusAndCreatedBefore for the bulk version)
      */
 }
@@ -2,10 +2,19 @@ package com.example.taskmanager.service;
 
 import com.example.taskmanager.model.Task;
 import com.example.taskmanager.model.TaskStatus;
+import com.example.taskmanager.model.TaskSummary;
 import com.example.taskmanager.repository.TaskRepository;
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+import org.springframework.data.support.WindowIterator;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
 
@@ -22,9 +31,22 @@ import java.util.Optional;
 public class TaskService {
 
     private final TaskRepository taskRepository;
+    private final EntityManager entityManager;
+    private final int batchSize;
 
-    public TaskService(TaskRepository taskRepository) {
+    /**
+     * @param batchSize tasks per flush in createTasks - the same value as
+     *                  Hibernate's JDBC batch size, so each flush is one batch
+     */
+    public TaskService(TaskRepository taskRepository,
+                       EntityManager entityManager,
+                       @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}") int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("hibernate.jdbc.batch_size must be at least 1");
+        }
         this.taskRepository = taskRepository;
+        this.entityManager = entityManager;
+        this.batchSize = batchSize;
     }
 
     public Task createTask(String title, String description) {
@@ -35,11 +57,85 @@ public class TaskService {
         return taskRepository.save(task);  // JPA handles INSERT
     }
 
+    /**
+     * Creates many tasks in one transaction, one JDBC batch per batchSize
+     * tasks. All titles are validated first, so one bad entry saves nothing.
+     *
+     * WHY FLUSH AND CLEAR?
+     * Every saved entity stays in the persistence context (with a snapshot
+     * for dirty checking) until the transaction ends. For 100,000 tasks
+     * that is 100,000 managed objects, and every flush dirty-checks all
+     * of them. Flushing each chunk sends its batch, clearing it lets the
+     * entities be garbage collected: memory and flush cost stay flat.
+     *
+     * The returned tasks have their ids but are detached.
+     */
+    public List<Task> createTasks(List<Task> tasks) {
+        for (Task task : tasks) {
+            if (task.getTitle() == null || task.getTitle().trim().isEmpty()) {
+                throw new IllegalArgumentException("Task title cannot be empty");
+            }
+        }
+        for (int start = 0; start < tasks.size(); start += batchSize) {
+            taskRepository.saveAll(tasks.subList(start, Math.min(start + batchSize, tasks.size())));
+            taskRepository.flush();  // one INSERT batch
+            entityManager.clear();   // forget the chunk
+        }
+        return tasks;
+    }
+
     @Transactional(readOnly = true)
     public List<Task> getAllTasks() {
         return taskRepository.findAllByOrderByCreatedAtDesc();
     }
 
+    /**
+     * For list views: id, title, status and creation time only,
+     * without loading (and managing) full Task entities.
+     */
+    @Transactional(readOnly = true)
+    public List<TaskSummary> getTaskSummaries() {
+        return taskRepository.findAllSummaries();
+    }
+
+    @Transactional(readOnly = true)
+    public List<TaskSummary> getTaskSummariesByStatus(TaskStatus status) {
+        return taskRepository.findSummariesByStatus(status);
+    }
+
+    /**
+     * One window of tasks, newest first, continuing after position.
+     * Costs the same for the first window and the ten-thousandth.
+     */
+    @Transactional(readOnly = true)
+    public Window<Task> scrollTasks(ScrollPosition position, int size) {
+        return taskRepository.findAllByOrderByCreatedAtDescIdDesc(position, Limit.of(size));
+    }
+
+    @Transactional(readOnly = true)
+    public Window<Task> scrollTasksByStatus(TaskStatus status, ScrollPosition position, int size) {
+        return taskRepository.findByStatusOrderByCreatedAtDescIdDesc(status, position, Limit.of(size));
+    }
+
+    /**
+     * Walks every task, newest first, windowSize tasks per query.
+     *
+     * CONSTANT MEMORY - only without a surrounding transaction:
+     * the windows are fetched lazily, while the caller iterates, so no
+     * annotation on this method can cover them. Each fetch is a plain
+     * repository call, so it joins whatever transaction the caller has.
+     * - Caller without a transaction: each window runs in the repository's
+     *   own short read-only transaction and its tasks are detached when it
+     *   ends. Only the current window is held, for 100 rows or 100 million
+     * - Caller inside a transaction: every task stays managed until that
+     *   transaction ends - memory grows with the table
+     */
+    public Iterator<Task> iterateAllTasks(int windowSize) {
+        return WindowIterator.of(position ->
+                        taskRepository.findAllByOrderByCreatedAtDescIdDesc(position, Limit.of(windowSize)))
+                .startingAt(ScrollPosition.keyset());
+    }
+
     @Transactional(readOnly = true)
     public Optional<Task> getTaskById(Long id) {
         return taskRepository.findById(id);  // Returns Optional automatically
@@ -72,6 +168,34 @@ public class TaskService {
         taskRepository.deleteById(id);
     }
 
+    /**
+     * Moves every task with status from that was created before the cutoff
+     * to status to - one UPDATE, however many tasks match.
+     *
+     * The repository flushes before and clears after the statement, so
+     * Task objects loaded earlier in this transaction must not be used
+     * afterwards: they are detached and still show the old status.
+     *
+     * @return number of tasks changed
+     */
+    public int changeStatusOfTasksCreatedBefore(TaskStatus from, TaskStatus to, LocalDateTime before) {
+        if (from == to) {
+            return 0;
+        }
+        return taskRepository.updateStatusWhereStatusAndCreatedBefore(from, before, to);
+    }
+
+    /**
+     * Deletes every task with the status that was created before the
+     * cutoff - one DELETE. Same persistence-context rules as
+     * changeStatusOfTasksCreatedBefore.
+     *
+     * @return number of tasks deleted
+     */
+    public int deleteTasksCreatedBefore(TaskStatus status, LocalDateTime before) {
+        return taskRepository.deleteByStatusAndCreatedBefore(status, before);
+    }
+
     @Transactional(readOnly = true)
     public List<Task> getTasksByStatus(TaskStatus status) {
         return taskRepository.findByStatusOrderByCreatedAtDesc(status);
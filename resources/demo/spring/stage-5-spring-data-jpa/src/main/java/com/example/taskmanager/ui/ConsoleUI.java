@@ -1,10 +1,17 @@
 package com.example.taskmanager.ui;
 
+import com.example.taskmanager.cache.CacheStatistics;
+import com.example.taskmanager.metrics.StatementMetrics;
 import com.example.taskmanager.model.Task;
 import com.example.taskmanager.model.TaskStatus;
+import com.example.taskmanager.model.TaskSummary;
 import com.example.taskmanager.service.TaskService;
+import org.hibernate.stat.Statistics;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.Scanner;
@@ -17,10 +24,14 @@ import java.util.Scanner;
 public class ConsoleUI {
 
     private final TaskService taskService;
+    private final CacheStatistics cacheStatistics;
+    private final StatementMetrics statementMetrics;
     private final Scanner scanner;
 
-    public ConsoleUI(TaskService taskService) {
+    public ConsoleUI(TaskService taskService, CacheStatistics cacheStatistics, StatementMetrics statementMetrics) {
         this.taskService = taskService;
+        this.cacheStatistics = cacheStatistics;
+        this.statementMetrics = statementMetrics;
         this.scanner = new Scanner(System.in);
     }
 
@@ -43,6 +54,10 @@ public class ConsoleUI {
                     case "5" -> changeStatus();
                     case "6" -> deleteTask();
                     case "7" -> listByStatus();
+                    case "8" -> showCacheStatistics();
+                    case "9" -> browseTasks();
+                    case "10" -> showStatementMetrics();
+                    case "11" -> bulkStatusChange();
                     case "0" -> {
                         running = false;
                         System.out.println("Goodbye!");
@@ -65,6 +80,10 @@ public class ConsoleUI {
         System.out.println("5. Change Status");
         System.out.println("6. Delete Task");
         System.out.println("7. List by Status");
+        System.out.println("8. Cache Statistics");
+        System.out.println("9. Browse Tasks (page by page)");
+        System.out.println("10. SQL Statement Metrics");
+        System.out.println("11. Bulk Status Change");
         System.out.println("0. Exit");
         System.out.print("Choose option: ");
     }
@@ -78,8 +97,9 @@ public class ConsoleUI {
         System.out.println("Task created: " + task);
     }
 
+    // Lists show summaries; "View Task" loads the full task with its description
     private void listAllTasks() {
-        List<Task> tasks = taskService.getAllTasks();
+        List<TaskSummary> tasks = taskService.getTaskSummaries();
         if (tasks.isEmpty()) {
             System.out.println("No tasks found.");
             return;
@@ -122,16 +142,7 @@ public class ConsoleUI {
     private void changeStatus() {
         System.out.print("Enter task ID: ");
         Long id = Long.parseLong(scanner.nextLine());
-        System.out.println("1. PENDING  2. IN_PROGRESS  3. COMPLETED  4. CANCELLED");
-        System.out.print("Choice: ");
-
-        TaskStatus status = switch (scanner.nextLine()) {
-            case "1" -> TaskStatus.PENDING;
-            case "2" -> TaskStatus.IN_PROGRESS;
-            case "3" -> TaskStatus.COMPLETED;
-            case "4" -> TaskStatus.CANCELLED;
-            default -> throw new IllegalArgumentException("Invalid choice");
-        };
+        TaskStatus status = readStatus("Choice: ");
 
         Task task = taskService.updateTaskStatus(id, status);
         System.out.println("Status updated: " + task);
@@ -148,22 +159,93 @@ public class ConsoleUI {
     }
 
     private void listByStatus() {
+        TaskStatus status = readStatus("Choice: ");
+
+        List<TaskSummary> tasks = taskService.getTaskSummariesByStatus(status);
+        if (tasks.isEmpty()) {
+            System.out.println("No tasks with status: " + status);
+        } else {
+            tasks.forEach(System.out::println);
+        }
+    }
+
+    private void bulkStatusChange() {
+        TaskStatus from = readStatus("Change tasks with status: ");
+        TaskStatus to = readStatus("To status: ");
+        System.out.print("Created more than how many days ago (0 = all): ");
+        int days = Integer.parseInt(scanner.nextLine().trim());
+
+        int changed = taskService.changeStatusOfTasksCreatedBefore(
+                from, to, LocalDateTime.now().minusDays(days));
+        System.out.println(changed + " task(s) changed from " + from + " to " + to + ".");
+    }
+
+    private TaskStatus readStatus(String prompt) {
         System.out.println("1. PENDING  2. IN_PROGRESS  3. COMPLETED  4. CANCELLED");
-        System.out.print("Choice: ");
+        System.out.print(prompt);
 
-        TaskStatus status = switch (scanner.nextLine()) {
+        return switch (scanner.nextLine()) {
             case "1" -> TaskStatus.PENDING;
             case "2" -> TaskStatus.IN_PROGRESS;
             case "3" -> TaskStatus.COMPLETED;
             case "4" -> TaskStatus.CANCELLED;
             default -> throw new IllegalArgumentException("Invalid choice");
         };
+    }
 
-        List<Task> tasks = taskService.getTasksByStatus(status);
-        if (tasks.isEmpty()) {
-            System.out.println("No tasks with status: " + status);
-        } else {
-            tasks.forEach(System.out::println);
+    private void browseTasks() {
+        ScrollPosition position = ScrollPosition.keyset();
+        while (true) {
+            Window<Task> window = taskService.scrollTasks(position, 10);
+            if (window.isEmpty()) {
+                System.out.println("No tasks found.");
+                return;
+            }
+            window.forEach(System.out::println);
+            if (!window.hasNext()) {
+                return;
+            }
+            System.out.print("Enter for next page, q to stop: ");
+            if (scanner.nextLine().trim().equalsIgnoreCase("q")) {
+                return;
+            }
+            // The last task shown is where the next page starts
+            position = window.positionAt(window.size() - 1);
         }
     }
+
+    private void showCacheStatistics() {
+        List<CacheStatistics.RegionStatistics> regions = cacheStatistics.regions();
+        if (regions.isEmpty()) {
+            System.out.println("Second-level cache statistics are not enabled.");
+            return;
+        }
+        System.out.println("\n--- Second-Level Cache ---");
+        System.out.printf("%-34s %8s %8s %8s %9s %6s%n", "Region", "Hits", "Misses", "Puts", "Evictions", "Hit %");
+        for (CacheStatistics.RegionStatistics region : regions) {
+            System.out.printf("%-34s %8d %8d %8d %9d %5.1f%%%n",
+                    region.region(), region.hits(), region.misses(), region.puts(), region.evictions(),
+                    region.hitPercentage());
+        }
+    }
+
+    private void showStatementMetrics() {
+        System.out.println("\n--- SQL Statements per Service Call ---");
+        System.out.printf("%-40s %6s %10s %8s %5s%n", "Method", "Calls", "Statements", "Average", "Max");
+        for (StatementMetrics.MethodStatements method : statementMetrics.perMethod()) {
+            System.out.printf("%-40s %6d %10d %8.1f %5d%n",
+                    method.method(), method.calls(), method.statements(), method.average(), method.max());
+        }
+
+        Statistics statistics = statementMetrics.hibernateStatistics();
+        System.out.println("\n--- Hibernate Statistics ---");
+        System.out.println("Statements prepared: " + statistics.getPrepareStatementCount());
+        System.out.println("Queries executed:    " + statistics.getQueryExecutionCount());
+        System.out.println("Entities loaded:     " + statistics.getEntityLoadCount());
+        System.out.println("Entities inserted:   " + statistics.getEntityInsertCount());
+        System.out.println("L2 cache hits:       " + statistics.getSecondLevelCacheHitCount());
+        System.out.println("Slowest query:       " + statistics.getQueryExecutionMaxTime() + " ms "
+                + (statistics.getQueryExecutionMaxTimeQueryString() == null
+                        ? "" : statistics.getQueryExecutionMaxTimeQueryString()));
+    }
 }
@@ -0,0 +1,46 @@
+package com.example.taskmanager.metrics;
+
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test helper: fails when a piece of code issues more SQL statements than
+ * expected.
+ *
+ *     List<Task> tasks = assertMaxStatements(1, () -> taskService.getAllTasks());
+ *
+ * Counts what StatementCountingInspector sees on the test thread, so the
+ * application must run with the inspector registered (any test that loads
+ * StatementMetricsConfig). On failure the message lists every statement,
+ * which makes an N+1 pattern obvious:
+ *
+ *     select ... from tasks where id=?
+ *     select ... from tasks where id=?
+ *     select ... from tasks where id=?
+ *
+ * Call service methods, not repositories: statements flushed at commit
+ * are only counted if the transaction ends inside the measured call.
+ */
+public final class QueryCountAssertions {
+
+    private QueryCountAssertions() {
+    }
+
+    public static <T> T assertMaxStatements(long max, Supplier<T> call) {
+        try (StatementCounter.Recording recording = StatementCounter.record()) {
+            T result = call.get();
+            assertThat(recording.statements())
+                    .as("SQL statements (expected at most %d)", max)
+                    .hasSizeLessThanOrEqualTo((int) max);
+            return result;
+        }
+    }
+
+    public static void assertMaxStatements(long max, Runnable call) {
+        assertMaxStatements(max, () -> {
+            call.run();
+            return null;
+        });
+    }
+}
@@ -0,0 +1,263 @@
+package com.example.taskmanager.service;
+
+import com.example.taskmanager.metrics.StatementMetrics;
+import com.example.taskmanager.model.Task;
+import com.example.taskmanager.model.TaskStatus;
+import com.example.taskmanager.repository.TaskRepository;
+import com.example.taskmanager.ui.ConsoleUI;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import static com.example.taskmanager.metrics.QueryCountAssertions.assertMaxStatements;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Upper bounds on the SQL statements of each TaskService method.
+ *
+ * A bound that depends on the number of tasks (one query per task) is an
+ * N+1 regression; these tests create enough tasks to make one visible.
+ *
+ * @SpringBootTest without @Transactional: every service call commits on
+ * its own, so flushed INSERTs and UPDATEs are counted as in production.
+ * The caches are emptied before each test so that reads really hit the
+ * database.
+ */
+@SpringBootTest
+class TaskServiceQueryCountTest {
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private StatementMetrics statementMetrics;
+
+    // Application's CommandLineRunner needs one; the mock's run() returns at once
+    @MockBean
+    private ConsoleUI consoleUI;
+
+    @BeforeEach
+    void setUp() {
+        taskRepository.deleteAllInBatch();
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @Test
+    @DisplayName("createTask - sequence call + INSERT")
+    void createTask_AtMostTwoStatements() {
+        assertMaxStatements(2, () -> taskService.createTask("Task", "Description"));
+    }
+
+    @Test
+    @DisplayName("createTasks - one INSERT per JDBC batch, not per task")
+    void createTasks_BatchesInserts() {
+        // Arrange: 120 tasks = 3 INSERT batches of at most 50
+        List<Task> tasks = newTasks(120);
+
+        // Act + Assert: + at most 4 sequence calls (120 ids may span 4 blocks of 50)
+        assertMaxStatements(7, () -> taskService.createTasks(tasks));
+        assertThat(taskRepository.count()).isEqualTo(120);
+    }
+
+    @Test
+    @DisplayName("list methods - one SELECT however many tasks exist")
+    void listMethods_OneStatement() {
+        // Arrange
+        taskService.createTasks(newTasks(30));
+
+        // Act + Assert
+        assertThat(assertMaxStatements(1, () -> taskService.getAllTasks())).hasSize(30);
+        assertThat(assertMaxStatements(1, () -> taskService.getTaskSummaries())).hasSize(30);
+        assertThat(assertMaxStatements(1, () -> taskService.getTasksByStatus(TaskStatus.PENDING))).hasSize(30);
+        assertThat(assertMaxStatements(1, () -> taskService.getTaskSummariesByStatus(TaskStatus.PENDING)))
+                .hasSize(30);
+    }
+
+    @Test
+    @DisplayName("getTaskById - one SELECT, then served by the second-level cache")
+    void getTaskById_OneStatementThenCached() {
+        // Arrange
+        Task task = taskService.createTask("Task", "Description");
+        entityManagerFactory.getCache().evictAll();
+
+        // Act + Assert
+        assertThat(assertMaxStatements(1, () -> taskService.getTaskById(task.getId()))).isPresent();
+        assertThat(assertMaxStatements(0, () -> taskService.getTaskById(task.getId()))).isPresent();
+    }
+
+    @Test
+    @DisplayName("scroll methods - one SELECT per window, however deep")
+    void scrollMethods_OneStatementPerWindow() {
+        // Arrange
+        taskService.createTasks(newTasks(30));
+
+        // Act + Assert
+        Window<Task> first = assertMaxStatements(1, () -> taskService.scrollTasks(ScrollPosition.keyset(), 10));
+        Window<Task> second = assertMaxStatements(1,
+                () -> taskService.scrollTasks(first.positionAt(first.size() - 1), 10));
+        Window<Task> byStatus = assertMaxStatements(1,
+                () -> taskService.scrollTasksByStatus(TaskStatus.PENDING, second.positionAt(second.size() - 1), 10));
+        assertThat(first).hasSize(10);
+        assertThat(second).hasSize(10);
+        assertThat(byStatus).hasSize(10);
+    }
+
+    @Test
+    @DisplayName("updateTask - SELECT + UPDATE")
+    void updateTask_AtMostTwoStatements() {
+        // Arrange
+        Task task = taskService.createTask("Task", "Description");
+        entityManagerFactory.getCache().evictAll();
+
+        // Act + Assert
+        assertMaxStatements(2, () -> taskService.updateTask(task.getId(), "Renamed", "New description"));
+    }
+
+    @Test
+    @DisplayName("completeTask / startTask - SELECT + UPDATE")
+    void completeTaskAndStartTask_AtMostTwoStatements() {
+        // Arrange
+        Task task = taskService.createTask("Task", "Description");
+
+        // Act + Assert
+        entityManagerFactory.getCache().evictAll();
+        assertMaxStatements(2, () -> taskService.startTask(task.getId()));
+        entityManagerFactory.getCache().evictAll();
+        assertMaxStatements(2, () -> taskService.completeTask(task.getId()));
+    }
+
+    @Test
+    @DisplayName("deleteTask - existence check + SELECT + DELETE")
+    void deleteTask_AtMostThreeStatements() {
+        // Arrange
+        Task task = taskService.createTask("Task", "Description");
+        entityManagerFactory.getCache().evictAll();
+
+        // Act + Assert
+        assertMaxStatements(3, () -> taskService.deleteTask(task.getId()));
+        assertThat(taskRepository.existsById(task.getId())).isFalse();
+    }
+
+    @Test
+    @DisplayName("updateTaskStatus - SELECT + UPDATE")
+    void updateTaskStatus_AtMostTwoStatements() {
+        // Arrange
+        Task task = taskService.createTask("Task", "Description");
+        entityManagerFactory.getCache().evictAll();
+
+        // Act + Assert
+        assertMaxStatements(2, () -> taskService.updateTaskStatus(task.getId(), TaskStatus.COMPLETED));
+    }
+
+    @Test
+    @DisplayName("changeStatusOfTasksCreatedBefore - one UPDATE for all matching tasks")
+    void changeStatusOfTasksCreatedBefore_OneStatement() {
+        // Arrange: 40 old tasks, one recent one
+        List<Task> old = newTasks(40);
+        old.forEach(task -> task.setCreatedAt(LocalDateTime.now().minusDays(2)));
+        taskService.createTasks(old);
+        Task recent = taskService.createTask("Recent", "Created after the cutoff");
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(1);
+
+        // Act
+        int changed = assertMaxStatements(1, () -> taskService.changeStatusOfTasksCreatedBefore(
+                TaskStatus.PENDING, TaskStatus.CANCELLED, cutoff));
+
+        // Assert: the bulk UPDATE bypassed the caches - they must not serve old state
+        assertThat(changed).isEqualTo(40);
+        assertThat(taskService.getTasksByStatus(TaskStatus.CANCELLED)).hasSize(40);
+        assertThat(taskService.getTaskById(recent.getId())).get()
+                .extracting(Task::getStatus).isEqualTo(TaskStatus.PENDING);
+    }
+
+    @Test
+    @DisplayName("deleteTasksCreatedBefore - one DELETE for all matching tasks")
+    void deleteTasksCreatedBefore_OneStatement() {
+        // Arrange
+        List<Task> tasks = taskService.createTasks(newTasks(20));
+        taskService.getTaskById(tasks.get(0).getId());  // now in the second-level cache
+
+        // Act
+        int deleted = assertMaxStatements(1, () -> taskService.deleteTasksCreatedBefore(
+                TaskStatus.PENDING, LocalDateTime.now().plusMinutes(1)));
+
+        // Assert
+        assertThat(deleted).isEqualTo(20);
+        assertThat(taskService.getTaskById(tasks.get(0).getId())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("iterateAllTasks - one SELECT per window")
+    void iterateAllTasks_OneStatementPerWindow() {
+        // Arrange
+        taskService.createTasks(newTasks(45));
+
+        // Act + Assert: 45 tasks in windows of 10 = 5 windows
+        int seen = assertMaxStatements(5, () -> {
+            Iterator<Task> iterator = taskService.iterateAllTasks(10);
+            int count = 0;
+            while (iterator.hasNext()) {
+                iterator.next();
+                count++;
+            }
+            return count;
+        });
+        assertThat(seen).isEqualTo(45);
+    }
+
+    @Test
+    @DisplayName("assertMaxStatements - fails on an N+1 pattern")
+    void assertMaxStatements_NPlusOne_Fails() {
+        // Arrange
+        List<Long> ids = taskService.createTasks(newTasks(5)).stream().map(Task::getId).toList();
+        entityManagerFactory.getCache().evictAll();
+
+        // Act + Assert: one findById per task is 5 statements, not 1
+        assertThatThrownBy(() -> assertMaxStatements(1, () -> ids.forEach(taskService::getTaskById)))
+                .isInstanceOf(AssertionError.class)
+                .hasMessageContaining("expected at most 1");
+    }
+
+    @Test
+    @DisplayName("statement metrics - recorded per service method")
+    void statementMetrics_RecordedPerMethod() {
+        // Act
+        taskService.createTask("Task", "Description");
+        taskService.getAllTasks();
+
+        // Assert
+        assertThat(statementMetrics.perMethod())
+                .anySatisfy(method -> {
+                    assertThat(method.method()).isEqualTo("TaskService.createTask");
+                    assertThat(method.statements()).isPositive();
+                })
+                .anySatisfy(method -> assertThat(method.method()).isEqualTo("TaskService.getAllTasks"));
+        assertThat(statementMetrics.hibernateStatistics().getPrepareStatementCount()).isPositive();
+    }
+
+    private static List<Task> newTasks(int count) {
+        List<Task> tasks = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            tasks.add(new Task("Task " + i, "Description " + i));
+        }
+        return tasks;
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.taskmanager.controller;
+
+import java.util.List;
+
+/**
+ * JSON body of a cursor-scrolled list:
+ *
+ *     { "content": [ ... ], "nextCursor": "MjAyNC0wMS0xNVQxMDozMDowMHw0Mg" }
+ *
+ * Pass nextCursor back as ?cursor= to get the following tasks.
+ * nextCursor is null on the last page.
+ */
+public record CursorResponse<T>(List<T> content, String nextCursor) {
+}
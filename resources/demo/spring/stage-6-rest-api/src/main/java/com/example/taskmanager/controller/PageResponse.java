@@ -0,0 +1,41 @@
+package com.example.taskmanager.controller;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+
+/**
+ * JSON body of a paged list:
+ *
+ *     {
+ *       "content": [ ... ],
+ *       "page": 0, "size": 20, "hasNext": true,
+ *       "totalElements": 1234, "totalPages": 62
+ *     }
+ *
+ * The totals are only present for a Page (count=true); a Slice leaves
+ * them out because it never ran the COUNT(*) query.
+ *
+ * Our own record rather than Spring's PageImpl: the JSON stays the same
+ * whatever Spring Data changes internally.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record PageResponse<T>(
+        List<T> content,
+        int page,
+        int size,
+        boolean hasNext,
+        Long totalElements,
+        Integer totalPages) {
+
+    public static <T> PageResponse<T> of(Slice<T> slice) {
+        if (slice instanceof Page<T> page) {
+            return new PageResponse<>(page.getContent(), page.getNumber(), page.getSize(), page.hasNext(),
+                    page.getTotalElements(), page.getTotalPages());
+        }
+        return new PageResponse<>(slice.getContent(), slice.getNumber(), slice.getSize(), slice.hasNext(),
+                null, null);
+    }
+}
@@ -3,12 +3,23 @@ package com.example.taskmanager.controller;
 import com.example.taskmanager.model.Task;
 import com.example.taskmanager.model.TaskStatus;
 import com.example.taskmanager.service.TaskService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.server.ResponseStatusException;
 
-import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
 
 /**
  * REST Controller for Task operations.
@@ -30,35 +41,95 @@ import java.util.Map;
  * - @PathVariable: Extract value from URL path
  * - @RequestBody: Parse JSON request body
  * - @ResponseStatus: Set HTTP status code
+ *
+ * =====================================================
+ * LISTS ARE PAGED
+ * =====================================================
+ * Returning every task in one array is fine for 10 tasks and a
+ * multi-megabyte response for 100,000. The list endpoints return one page:
+ *
+ *     GET /api/tasks?page=0&size=20&sort=title,asc    Page  (+ COUNT(*) for totals)
+ *     GET /api/tasks?page=3&count=false               Slice (no COUNT(*))
+ *     GET /api/tasks/scroll?cursor=...&size=50        keyset cursor, for deep scrolling
+ *
+ * Pageable is built by Spring Data from page/size/sort. size is capped at
+ * spring.data.web.pageable.max-page-size, whatever the client asks for.
+ *
+ * =====================================================
+ * CONDITIONAL GET (ETag / If-None-Match)
+ * =====================================================
+ * Every GET returns an ETag. A client that sends it back in If-None-Match
+ * gets 304 Not Modified - no body - while nothing has changed. See
+ * TaskETags for how the tags are computed.
  */
 @RestController
 @RequestMapping("/api/tasks")
 public class TaskController {
 
+    /** Properties a client may sort by - anything else is a 400, not a 500. */
+    private static final Set<String> SORTABLE = Set.of("id", "title", "status", "createdAt");
+
     private final TaskService taskService;
+    private final int maxPageSize;
 
-    public TaskController(TaskService taskService) {
+    public TaskController(TaskService taskService,
+                          @Value("${spring.data.web.pageable.max-page-size:100}") int maxPageSize) {
         this.taskService = taskService;
+        this.maxPageSize = maxPageSize;
     }
 
     /**
-     * GET /api/tasks
-     * Returns all tasks.
+     * GET /api/tasks?page=0&size=20&sort=createdAt,desc&count=true
+     * Returns one page of tasks, newest first by default.
+     *
+     * count=false skips the COUNT(*) query: the response then has hasNext
+     * but no totalElements/totalPages. Use it for "load more" lists.
      */
     @GetMapping
-    public List<Task> getAllTasks() {
-        return taskService.getAllTasks();
+    public ResponseEntity<PageResponse<Task>> getAllTasks(
+            @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable,
+            @RequestParam(defaultValue = "true") boolean count,
+            WebRequest request) {
+        return listResponse(null, request, () -> getPage(null, pageable, count));
+    }
+
+    /**
+     * GET /api/tasks/scroll?cursor=...&size=20
+     * Returns tasks newest first, continuing after the cursor of the
+     * previous response (no cursor = first page).
+     */
+    @GetMapping("/scroll")
+    public ResponseEntity<CursorResponse<Task>> scrollTasks(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            WebRequest request) {
+        return listResponse(null, request, () -> scroll(null, cursor, size));
     }
 
     /**
      * GET /api/tasks/{id}
      * Returns a specific task by ID.
+     *
+     * With If-None-Match matching the current version: 304, and the task
+     * itself is never loaded.
      */
     @GetMapping("/{id}")
-    public ResponseEntity<Task> getTaskById(@PathVariable Long id) {
+    public ResponseEntity<Task> getTaskById(@PathVariable Long id, WebRequest request) {
+        Optional<Long> version = taskService.getTaskVersion(id);
+        if (version.isEmpty()) {
+            return ResponseEntity.notFound().build();       // 404 Not Found
+        }
+        String etag = TaskETags.forTask(id, version.get());
+        if (request.checkNotModified(etag)) {
+            return notModified();                           // 304 Not Modified
+        }
+        // Tag the task actually returned: it may have changed since the version check
         return taskService.getTaskById(id)
-                .map(ResponseEntity::ok)                     // 200 OK if found
-                .orElse(ResponseEntity.notFound().build());  // 404 Not Found
+                .map(task -> ResponseEntity.ok()             // 200 OK if found
+                        .eTag(TaskETags.forTask(task.getId(), task.getVersion()))
+                        .cacheControl(CacheControl.noCache())
+                        .body(task))
+                .orElse(ResponseEntity.notFound().build());
     }
 
     /**
@@ -130,12 +201,91 @@ public class TaskController {
     }
 
     /**
-     * GET /api/tasks/status/{status}
-     * Returns tasks filtered by status.
+     * GET /api/tasks/status/{status}?page=0&size=20&sort=createdAt,desc&count=true
+     * Returns one page of tasks with the status - same parameters as GET /api/tasks.
      */
     @GetMapping("/status/{status}")
-    public List<Task> getTasksByStatus(@PathVariable TaskStatus status) {
-        return taskService.getTasksByStatus(status);
+    public ResponseEntity<PageResponse<Task>> getTasksByStatus(
+            @PathVariable TaskStatus status,
+            @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable,
+            @RequestParam(defaultValue = "true") boolean count,
+            WebRequest request) {
+        return listResponse(status, request, () -> getPage(status, pageable, count));
+    }
+
+    /**
+     * GET /api/tasks/status/{status}/scroll?cursor=...&size=20
+     */
+    @GetMapping("/status/{status}/scroll")
+    public ResponseEntity<CursorResponse<Task>> scrollTasksByStatus(
+            @PathVariable TaskStatus status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            WebRequest request) {
+        return listResponse(status, request, () -> scroll(status, cursor, size));
+    }
+
+    // =====================================================
+    // Paging helpers
+    // =====================================================
+
+    /**
+     * 304 if the list's ETag matches If-None-Match, otherwise the body.
+     *
+     * The ETag is read BEFORE the body. If a task changes in between, the
+     * body is newer than its tag and the next poll simply downloads again;
+     * a client can never be stuck with stale data.
+     */
+    private <T> ResponseEntity<T> listResponse(TaskStatus status, WebRequest request, Supplier<T> body) {
+        String etag = TaskETags.forList(taskService.getListVersion(status));
+        if (request.checkNotModified(etag)) {
+            return notModified();
+        }
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache())  // may be stored, but revalidate every time
+                .body(body.get());
+    }
+
+    // checkNotModified() has already put the ETag on the response
+    private static <T> ResponseEntity<T> notModified() {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+    }
+
+    private PageResponse<Task> getPage(TaskStatus status, Pageable pageable, boolean count) {
+        Pageable stable = withStableSort(pageable);
+        return PageResponse.of(count
+                ? taskService.getTaskPage(status, stable)
+                : taskService.getTaskSlice(status, stable));
+    }
+
+    private CursorResponse<Task> scroll(TaskStatus status, String cursor, int size) {
+        // Same cap as the Pageable resolver applies to ?size=
+        int limit = Math.max(1, Math.min(size, maxPageSize));
+        Window<Task> window = taskService.scrollTasks(status, TaskCursor.decode(cursor), limit);
+        String nextCursor = window.hasNext() ? TaskCursor.encode(window.getContent().get(window.size() - 1)) : null;
+        return new CursorResponse<>(window.getContent(), nextCursor);
+    }
+
+    /**
+     * Rejects unknown sort properties and adds id as the last sort key.
+     *
+     * Without a unique last key, tasks with the same sort value (same
+     * status, same createdAt...) can come back in a different order on
+     * every query - and show up on two pages or on none.
+     */
+    private static Pageable withStableSort(Pageable pageable) {
+        for (Sort.Order order : pageable.getSort()) {
+            if (!SORTABLE.contains(order.getProperty())) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                        "Cannot sort by '" + order.getProperty() + "', allowed: " + SORTABLE);
+            }
+        }
+        Sort sort = pageable.getSort();
+        if (sort.getOrderFor("id") == null) {
+            sort = sort.and(Sort.by(Sort.Direction.DESC, "id"));
+        }
+        return PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), sort);
     }
 
     // =====================================================
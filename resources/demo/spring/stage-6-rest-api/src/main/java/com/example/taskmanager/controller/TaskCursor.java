@@ -0,0 +1,60 @@
+package com.example.taskmanager.controller;
+
+import com.example.taskmanager.model.Task;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Encodes the keyset position of the last task of a page as an opaque
+ * string, and back.
+ *
+ * WHY OPAQUE?
+ * The cursor is "createdAt|id" in Base64. Clients must treat it as a
+ * token and only pass it back: the sort keys can change later without
+ * breaking them, and nobody builds cursors by hand.
+ *
+ * WHY NOT ?page=5000?
+ * OFFSET makes the database read and skip every earlier row; a cursor
+ * continues right after the last row seen, so every page costs the same.
+ */
+final class TaskCursor {
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private TaskCursor() {
+    }
+
+    static String encode(Task last) {
+        String keys = last.getCreatedAt() + "|" + last.getId();
+        return ENCODER.encodeToString(keys.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @param cursor null or blank for the first page
+     * @throws ResponseStatusException 400 if the cursor was not made by encode()
+     */
+    static ScrollPosition decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return ScrollPosition.keyset();
+        }
+        try {
+            String keys = new String(DECODER.decode(cursor), StandardCharsets.UTF_8);
+            int separator = keys.lastIndexOf('|');
+            Map<String, Object> position = new LinkedHashMap<>();
+            position.put("createdAt", LocalDateTime.parse(keys.substring(0, separator)));
+            position.put("id", Long.parseLong(keys.substring(separator + 1)));
+            return ScrollPosition.forward(position);
+        } catch (IllegalArgumentException | DateTimeParseException | IndexOutOfBoundsException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid cursor");
+        }
+    }
+}
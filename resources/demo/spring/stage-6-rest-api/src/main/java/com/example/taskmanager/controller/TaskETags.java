@@ -0,0 +1,41 @@
+package com.example.taskmanager.controller;
+
+import com.example.taskmanager.repository.TaskListVersion;
+
+import java.time.ZoneOffset;
+
+/**
+ * Strong ETags for tasks and task lists.
+ *
+ * =====================================================
+ * CONDITIONAL GET
+ * =====================================================
+ *     GET /api/tasks/7                       -> 200, ETag: "7-3", body
+ *     GET /api/tasks/7  If-None-Match: "7-3" -> 304, no body
+ *
+ * The ETag is computed from data the database returns cheaply (a version
+ * column, a count and a max), so a 304 costs one tiny query and no JSON
+ * serialization at all. Spring's ShallowEtagHeaderFilter would instead
+ * build and hash the full response every time.
+ *
+ * An ETag only has to be unique per URL: /api/tasks?page=0 and ?page=1
+ * may share one, because clients and caches compare it per URL.
+ */
+final class TaskETags {
+
+    private TaskETags() {
+    }
+
+    /** Task id + @Version: changes with every update of the task. */
+    static String forTask(Long id, long version) {
+        return "\"" + id + "-" + version + "\"";
+    }
+
+    /** Count + newest updatedAt (microseconds) of the tasks in the list. */
+    static String forList(TaskListVersion listVersion) {
+        long lastUpdated = listVersion.lastUpdated() == null ? 0
+                : listVersion.lastUpdated().toEpochSecond(ZoneOffset.UTC) * 1_000_000
+                        + listVersion.lastUpdated().getNano() / 1_000;
+        return "\"" + listVersion.count() + "-" + lastUpdated + "\"";
+    }
+}
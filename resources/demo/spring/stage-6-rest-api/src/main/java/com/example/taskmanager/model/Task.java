@@ -1,14 +1,26 @@
 package com.example.taskmanager.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import java.time.LocalDateTime;
 
 /**
- * JPA Entity - unchanged from Stage 5.
+ * JPA Entity - Stage 5 plus change tracking for HTTP caching.
  * Jackson automatically serializes this to JSON.
+ *
+ * version:   incremented by Hibernate on every update (@Version). The
+ *            ETag of GET /api/tasks/{id} - not part of the JSON.
+ * updatedAt: last change; max(updatedAt) + count is the ETag of a list.
  */
 @Entity
-@Table(name = "tasks")
+@Table(name = "tasks", indexes = {
+        // Paging newest first and the keyset cursor: ORDER BY created_at DESC, id DESC
+        @Index(name = "idx_tasks_created_id", columnList = "created_at DESC, id DESC"),
+        @Index(name = "idx_tasks_status_created_id", columnList = "status, created_at DESC, id DESC"),
+        // List ETags: count(*) + max(updated_at), read from the index alone
+        @Index(name = "idx_tasks_updated", columnList = "updated_at"),
+        @Index(name = "idx_tasks_status_updated", columnList = "status, updated_at")
+})
 public class Task {
 
     @Id
@@ -28,9 +40,22 @@ public class Task {
     @Column(name = "created_at", nullable = false)
     private LocalDateTime createdAt;
 
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Version
+    @JsonIgnore
+    private Long version;
+
     public Task() {
         this.status = TaskStatus.PENDING;
         this.createdAt = LocalDateTime.now();
+        this.updatedAt = this.createdAt;
+    }
+
+    @PreUpdate
+    void touch() {
+        this.updatedAt = LocalDateTime.now();
     }
 
     public Task(String title, String description) {
@@ -53,4 +78,8 @@ public class Task {
 
     public LocalDateTime getCreatedAt() { return createdAt; }
     public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+
+    public Long getVersion() { return version; }
 }
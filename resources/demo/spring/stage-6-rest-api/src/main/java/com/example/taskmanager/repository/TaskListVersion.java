@@ -0,0 +1,13 @@
+package com.example.taskmanager.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * What a list of tasks looks like "from the outside": how many tasks,
+ * and when the most recent change happened. If neither changed, the list
+ * did not change - the basis of the list ETags.
+ *
+ * A deleted task lowers count; a created or updated one moves lastUpdated.
+ */
+public record TaskListVersion(Long count, LocalDateTime lastUpdated) {
+}
@@ -2,13 +2,30 @@ package com.example.taskmanager.repository;
 
 import com.example.taskmanager.model.Task;
 import com.example.taskmanager.model.TaskStatus;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
 /**
- * Task Repository - unchanged from Stage 5.
+ * Task Repository - the Stage 5 queries, plus paged variants for the API.
+ *
+ * THREE WAYS TO READ A LIST PAGE BY PAGE:
+ *
+ *     Page<Task>    SELECT ... LIMIT/OFFSET  +  SELECT COUNT(*)  -> knows the total
+ *     Slice<Task>   SELECT ... LIMIT size+1 OFFSET               -> only "is there more?"
+ *     Window<Task>  SELECT ... WHERE (created_at, id) < last row -> keyset, no OFFSET
+ *
+ * findAll(Pageable) returning Page comes from JpaRepository.
  */
 @Repository
 public interface TaskRepository extends JpaRepository<Task, Long> {
@@ -18,4 +35,34 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
     List<Task> findAllByOrderByCreatedAtDesc();
 
     List<Task> findByStatusOrderByCreatedAtDesc(TaskStatus status);
+
+    Page<Task> findByStatus(TaskStatus status, Pageable pageable);
+
+    /** Slice: reads one extra row instead of running COUNT(*). */
+    Slice<Task> findSliceBy(Pageable pageable);
+
+    Slice<Task> findSliceByStatus(TaskStatus status, Pageable pageable);
+
+    /**
+     * Keyset scrolling, newest first. The position holds createdAt and id
+     * of the last task already returned; id makes it unique.
+     */
+    Window<Task> findAllByOrderByCreatedAtDescIdDesc(ScrollPosition position, Limit limit);
+
+    Window<Task> findByStatusOrderByCreatedAtDescIdDesc(TaskStatus status, ScrollPosition position, Limit limit);
+
+    /*
+     * ETag queries: a few bytes instead of whole tasks. Enough to answer
+     * "has it changed?" - only when it has is the data itself loaded.
+     */
+
+    @Query("SELECT t.version FROM Task t WHERE t.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    @Query("SELECT new com.example.taskmanager.repository.TaskListVersion(COUNT(t), MAX(t.updatedAt)) FROM Task t")
+    TaskListVersion findListVersion();
+
+    @Query("SELECT new com.example.taskmanager.repository.TaskListVersion(COUNT(t), MAX(t.updatedAt))"
+            + " FROM Task t WHERE t.status = :status")
+    TaskListVersion findListVersionByStatus(@Param("status") TaskStatus status);
 }
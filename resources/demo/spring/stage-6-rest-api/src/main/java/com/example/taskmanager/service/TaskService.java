@@ -2,7 +2,14 @@ package com.example.taskmanager.service;
 
 import com.example.taskmanager.model.Task;
 import com.example.taskmanager.model.TaskStatus;
+import com.example.taskmanager.repository.TaskListVersion;
 import com.example.taskmanager.repository.TaskRepository;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -10,7 +17,9 @@ import java.util.List;
 import java.util.Optional;
 
 /**
- * Business logic layer - unchanged from Stage 5.
+ * Business logic layer - Stage 5 plus paged reads for the REST API.
+ *
+ * A null status in the paged methods means "all tasks".
  */
 @Service
 @Transactional
@@ -71,4 +80,52 @@ public class TaskService {
     public List<Task> getTasksByStatus(TaskStatus status) {
         return taskRepository.findByStatusOrderByCreatedAtDesc(status);
     }
+
+    /**
+     * Current version of a task, without loading it - for ETags.
+     */
+    @Transactional(readOnly = true)
+    public Optional<Long> getTaskVersion(Long id) {
+        return taskRepository.findVersionById(id);
+    }
+
+    /**
+     * Count and last change of all tasks (status null) or of one status.
+     */
+    @Transactional(readOnly = true)
+    public TaskListVersion getListVersion(TaskStatus status) {
+        return status == null
+                ? taskRepository.findListVersion()
+                : taskRepository.findListVersionByStatus(status);
+    }
+
+    /**
+     * One page plus the total count (two queries).
+     */
+    @Transactional(readOnly = true)
+    public Page<Task> getTaskPage(TaskStatus status, Pageable pageable) {
+        return status == null
+                ? taskRepository.findAll(pageable)
+                : taskRepository.findByStatus(status, pageable);
+    }
+
+    /**
+     * One page without the total count (one query).
+     */
+    @Transactional(readOnly = true)
+    public Slice<Task> getTaskSlice(TaskStatus status, Pageable pageable) {
+        return status == null
+                ? taskRepository.findSliceBy(pageable)
+                : taskRepository.findSliceByStatus(status, pageable);
+    }
+
+    /**
+     * Up to size tasks, newest first, after the given keyset position.
+     */
+    @Transactional(readOnly = true)
+    public Window<Task> scrollTasks(TaskStatus status, ScrollPosition position, int size) {
+        return status == null
+                ? taskRepository.findAllByOrderByCreatedAtDescIdDesc(position, Limit.of(size))
+                : taskRepository.findByStatusOrderByCreatedAtDescIdDesc(status, position, Limit.of(size));
+    }
 }
@@ -0,0 +1,95 @@
+#!/usr/bin/env bash
+#
+# Platform threads vs virtual threads under load.
+#
+#   mvn package                        build the JAR
+#   ./benchmark.sh                     concurrency 50, 500 and 2000, 20 s each
+#   ./benchmark.sh 100 1000            other concurrency levels
+#   DURATION=60 ./benchmark.sh         longer runs
+#
+# For each mode the app is started on port $PORT, seeded with a few tasks,
+# warmed up, and loaded with benchmark/LoadTest.java (closed loop: every
+# client sends its next request when the previous one answered):
+#
+#   platform   Tomcat's pool of 200 platform threads (default)
+#   virtual    profile "virtual", one virtual thread per request
+#
+# The virtual run is started with -Djdk.tracePinnedThreads=short: each code
+# path that blocks inside a synchronized block (and so pins the carrier
+# thread) is printed once, and listed at the end.
+#
+# Needs Java 21 for both the app and LoadTest. Client and server share the
+# machine, so compare the two modes with each other, not with production.
+set -euo pipefail
+
+cd "$(dirname "$0")"
+JAR=target/task-manager-1.0-SNAPSHOT.jar
+PORT=${PORT:-18080}
+DURATION=${DURATION:-20}
+URL_PATH=${URL_PATH:-/api/tasks/1}
+if (( $# > 0 )); then LEVELS=("$@"); else LEVELS=(50 500 2000); fi
+
+if [[ ! -f "$JAR" ]]; then
+    echo "Missing $JAR - build it first: mvn package" >&2
+    exit 1
+fi
+if (( $(java -XshowSettings:properties -version 2>&1 | awk -F'= ' '/java.specification.version/ {print $2}') < 21 )); then
+    echo "Java 21+ required (virtual threads), found: $(java -version 2>&1 | head -1)" >&2
+    exit 1
+fi
+
+APP_PID=
+stop_app() {
+    if [[ -n "$APP_PID" ]]; then
+        kill "$APP_PID" 2> /dev/null || true
+        wait "$APP_PID" 2> /dev/null || true
+        APP_PID=
+    fi
+}
+trap stop_app EXIT
+
+# start_app <log file> <jvm options...>
+start_app() {
+    local log=$1; shift
+    java "$@" -jar "$JAR" --server.port="$PORT" > "$log" 2>&1 &
+    APP_PID=$!
+    for _ in $(seq 60); do
+        curl -sf "http://localhost:$PORT/api/tasks/status/PENDING" > /dev/null && return
+        sleep 1
+    done
+    echo "App did not start, see $log" >&2
+    exit 1
+}
+
+seed() {
+    for i in $(seq 100); do
+        curl -sf -o /dev/null -X POST "http://localhost:$PORT/api/tasks" \
+            -H "Content-Type: application/json" \
+            -d "{\"title\":\"Benchmark task $i\",\"description\":\"Seeded by benchmark.sh\"}"
+    done
+}
+
+run_mode() {
+    local mode=$1; shift
+    local log=target/benchmark-$mode.log
+    start_app "$log" "$@"
+    seed
+    java benchmark/LoadTest.java "http://localhost:$PORT$URL_PATH" 50 5 > /dev/null  # warm-up
+    for level in "${LEVELS[@]}"; do
+        printf '  %-9s ' "$mode"
+        java benchmark/LoadTest.java "http://localhost:$PORT$URL_PATH" "$level" "$DURATION"
+    done
+    stop_app
+}
+
+echo "GET $URL_PATH, ${DURATION}s per level:"
+run_mode platform
+run_mode virtual -Djdk.tracePinnedThreads=short -Dspring.profiles.active=virtual
+
+echo
+if grep -q '<== monitors' target/benchmark-virtual.log; then
+    echo "Pinned virtual threads (frames holding a monitor while blocking):"
+    grep '<== monitors' target/benchmark-virtual.log | sort | uniq -c | sort -rn
+else
+    echo "No pinned virtual threads reported."
+fi
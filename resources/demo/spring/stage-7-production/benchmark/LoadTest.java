@@ -0,0 +1,92 @@
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Minimal closed-loop HTTP load generator for benchmark.sh.
+ *
+ *     java benchmark/LoadTest.java <url> <concurrency> <seconds>
+ *
+ * Starts <concurrency> clients (virtual threads, so 10,000 are cheap),
+ * each sending the next GET as soon as the previous one answered, for
+ * <seconds>. Prints one line:
+ *
+ *     concurrency=1000 requests=52311 errors=0 throughput=2615/s p50=350ms p99=812ms
+ *
+ * Closed loop means: a slower server gets fewer requests. Throughput and
+ * latency therefore have to be read together. Latencies are counted in a
+ * 1 ms histogram, so memory does not grow with the number of requests.
+ *
+ * Single-file program (JEP 330), needs Java 21. Not part of the app.
+ */
+public class LoadTest {
+
+    /** Longer requests are counted as this (the request timeout). */
+    private static final int MAX_LATENCY_MILLIS = 30_000;
+
+    public static void main(String[] args) throws Exception {
+        if (args.length != 3) {
+            System.err.println("Usage: java LoadTest.java <url> <concurrency> <seconds>");
+            System.exit(1);
+        }
+        URI uri = URI.create(args[0]);
+        int concurrency = Integer.parseInt(args[1]);
+        long seconds = Long.parseLong(args[2]);
+
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+        HttpRequest request = HttpRequest.newBuilder(uri).timeout(Duration.ofSeconds(30)).build();
+
+        AtomicLong errors = new AtomicLong();
+        AtomicLongArray histogram = new AtomicLongArray(MAX_LATENCY_MILLIS + 1);
+        long deadline = System.nanoTime() + Duration.ofSeconds(seconds).toNanos();
+
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < concurrency; i++) {
+                clients.submit(() -> {
+                    while (System.nanoTime() < deadline) {
+                        long start = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() != 200) {
+                                errors.incrementAndGet();
+                            }
+                        } catch (Exception e) {
+                            errors.incrementAndGet();
+                        }
+                        long millis = (System.nanoTime() - start) / 1_000_000;
+                        histogram.incrementAndGet((int) Math.min(millis, MAX_LATENCY_MILLIS));
+                    }
+                });
+            }
+        }  // close() waits for all clients
+
+        long total = 0;
+        for (int i = 0; i < histogram.length(); i++) {
+            total += histogram.get(i);
+        }
+        System.out.printf("concurrency=%d requests=%d errors=%d throughput=%d/s p50=%dms p99=%dms%n",
+                concurrency, total, errors.get(), total / seconds,
+                percentileMillis(histogram, total, 0.50), percentileMillis(histogram, total, 0.99));
+    }
+
+    /** Smallest latency with at least this share of requests at or below it. */
+    private static long percentileMillis(AtomicLongArray histogram, long total, double percentile) {
+        long seen = 0;
+        for (int millis = 0; millis < histogram.length(); millis++) {
+            seen += histogram.get(millis);
+            if (seen >= total * percentile && seen > 0) {
+                return millis;
+            }
+        }
+        return 0;
+    }
+}
@@ -1,13 +1,27 @@
 package com.example.taskmanager.controller;
 
 import com.example.taskmanager.dto.*;
+import com.example.taskmanager.model.Task;
 import com.example.taskmanager.model.TaskStatus;
 import com.example.taskmanager.service.TaskService;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * REST Controller with production-ready features.
@@ -17,15 +31,25 @@ import java.util.List;
  * - @Valid triggers validation
  * - Returns TaskResponse instead of Task
  * - No try-catch - GlobalExceptionHandler handles errors
+ * - /stream variants write large lists without holding them in memory
+ * - /batch endpoints create or update many tasks in one request
  */
 @RestController
 @RequestMapping("/api/tasks")
 public class TaskController {
 
+    /** Most items accepted by one batch request. */
+    static final int MAX_BATCH_SIZE = 1000;
+
+    /** Tasks written between two flushes of a streamed response. */
+    private static final int STREAM_FLUSH_EVERY = 500;
+
     private final TaskService taskService;
+    private final ObjectMapper objectMapper;
 
-    public TaskController(TaskService taskService) {
+    public TaskController(TaskService taskService, ObjectMapper objectMapper) {
         this.taskService = taskService;
+        this.objectMapper = objectMapper;
     }
 
     /**
@@ -40,6 +64,20 @@ public class TaskController {
                 .toList();
     }
 
+    /**
+     * GET /api/tasks/stream
+     * Same JSON array as GET /api/tasks, written while it is read.
+     *
+     * getAllTasks() loads every task, converts the whole List and only
+     * then starts writing: memory and time-to-first-byte grow with the
+     * table. Here each task goes database -> TaskResponse -> response as
+     * soon as its row arrives, so both stay constant.
+     */
+    @GetMapping("/stream")
+    public ResponseEntity<StreamingResponseBody> streamAllTasks() {
+        return streamTasks(null);
+    }
+
     /**
      * GET /api/tasks/{id}
      * Returns a specific task.
@@ -66,6 +104,71 @@ public class TaskController {
         );
     }
 
+    /**
+     * POST /api/tasks/batch
+     * Creates many tasks: [{"title": ...}, {"title": ...}, ...]
+     *
+     * Instead of one HTTP request, validation pass, transaction and INSERT
+     * per task, the whole array is:
+     * - validated first: any invalid item -> 400 listing every bad field
+     *   ("[3].title"), and nothing is saved
+     * - saved in ONE transaction with batched INSERTs
+     *
+     * The response has one result per item, in request order.
+     */
+    @PostMapping("/batch")
+    @ResponseStatus(HttpStatus.CREATED)
+    public BatchResponse createTasks(
+            @RequestBody
+            @NotEmpty(message = "At least one task is required")
+            @Size(max = MAX_BATCH_SIZE, message = "At most " + MAX_BATCH_SIZE + " tasks per batch")
+            List<@Valid @NotNull(message = "Task must not be null") CreateTaskRequest> requests) {
+        List<Task> tasks = requests.stream()
+                .map(request -> new Task(request.title(), request.description()))
+                .toList();
+
+        List<Task> created = taskService.createTasks(tasks);
+
+        List<BatchItemResult> results = new ArrayList<>(created.size());
+        for (int i = 0; i < created.size(); i++) {
+            Task task = created.get(i);
+            results.add(new BatchItemResult(i, task.getId(), BatchItemResult.Outcome.CREATED,
+                    TaskResponse.fromEntity(task)));
+        }
+        return BatchResponse.of(results);
+    }
+
+    /**
+     * PATCH /api/tasks/batch/status
+     * Changes the status of many tasks: [{"id": 1, "status": "COMPLETED"}, ...]
+     *
+     * Validated as a whole like createTasks(), then updated in ONE
+     * transaction. An unknown id does not fail the batch: its result is
+     * NOT_FOUND and the other items are still updated. If an id appears
+     * more than once, the last status wins.
+     */
+    @PatchMapping("/batch/status")
+    public BatchResponse updateTaskStatuses(
+            @RequestBody
+            @NotEmpty(message = "At least one update is required")
+            @Size(max = MAX_BATCH_SIZE, message = "At most " + MAX_BATCH_SIZE + " updates per batch")
+            List<@Valid @NotNull(message = "Update must not be null") BatchUpdateStatusRequest> requests) {
+        Map<Long, TaskStatus> newStatuses = new LinkedHashMap<>();
+        requests.forEach(request -> newStatuses.put(request.id(), request.status()));
+
+        Map<Long, Task> updated = taskService.updateTaskStatuses(newStatuses);
+
+        List<BatchItemResult> results = new ArrayList<>(requests.size());
+        for (int i = 0; i < requests.size(); i++) {
+            Long id = requests.get(i).id();
+            Task task = updated.get(id);
+            results.add(task == null
+                    ? BatchItemResult.notFound(i, id)
+                    : new BatchItemResult(i, id, BatchItemResult.Outcome.UPDATED, TaskResponse.fromEntity(task)));
+        }
+        return BatchResponse.of(results);
+    }
+
     /**
      * PUT /api/tasks/{id}
      * Updates task title and/or description.
@@ -113,4 +216,54 @@ public class TaskController {
                 .map(TaskResponse::fromEntity)
                 .toList();
     }
+
+    /**
+     * GET /api/tasks/status/{status}/stream
+     * Streaming variant of getTasksByStatus().
+     */
+    @GetMapping("/status/{status}/stream")
+    public ResponseEntity<StreamingResponseBody> streamTasksByStatus(@PathVariable TaskStatus status) {
+        return streamTasks(status);
+    }
+
+    /*
+     * =====================================================
+     * STREAMING
+     * =====================================================
+     * StreamingResponseBody runs AFTER this method returns, on an MVC
+     * async thread, with the response already committed (200, headers
+     * sent). Consequences:
+     *
+     * - The transaction must be opened inside the body: forEachTask()
+     * - An error in the middle cannot become an ErrorResponse any more;
+     *   the connection is aborted and the client sees truncated JSON
+     *
+     * The generator comes from Spring's ObjectMapper, so dates and
+     * non_null inclusion are the same as in the List endpoints. Gzip is
+     * done by the server (server.compression.*) when the client sends
+     * Accept-Encoding: gzip.
+     */
+    private ResponseEntity<StreamingResponseBody> streamTasks(TaskStatus status) {
+        StreamingResponseBody body = outputStream -> {
+            try (JsonGenerator generator = objectMapper.createGenerator(outputStream)) {
+                generator.writeStartArray();
+                int[] written = {0};
+                taskService.forEachTask(status, task -> {
+                    try {
+                        generator.writeObject(TaskResponse.fromEntity(task));
+                        // Push what we have to the client instead of filling one huge buffer
+                        if (++written[0] % STREAM_FLUSH_EVERY == 0) {
+                            generator.flush();
+                        }
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);  // client went away: ends the stream
+                    }
+                });
+                generator.writeEndArray();
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
+    }
 }
@@ -0,0 +1,20 @@
+package com.example.taskmanager.dto;
+
+/**
+ * Outcome of one item of a batch request.
+ *
+ * index is the item's position in the request array, so a client can
+ * match results to what it sent even when ids are new or missing.
+ */
+public record BatchItemResult(
+    int index,
+    Long id,
+    Outcome outcome,
+    TaskResponse task
+) {
+    public enum Outcome { CREATED, UPDATED, NOT_FOUND }
+
+    public static BatchItemResult notFound(int index, Long id) {
+        return new BatchItemResult(index, id, Outcome.NOT_FOUND, null);
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.taskmanager.dto;
+
+import java.util.List;
+
+/**
+ * Response of the batch endpoints: counts plus one result per item, in
+ * request order.
+ */
+public record BatchResponse(
+    int succeeded,
+    int failed,
+    List<BatchItemResult> results
+) {
+    public static BatchResponse of(List<BatchItemResult> results) {
+        int failed = (int) results.stream()
+                .filter(result -> result.outcome() == BatchItemResult.Outcome.NOT_FOUND)
+                .count();
+        return new BatchResponse(results.size() - failed, failed, results);
+    }
+}
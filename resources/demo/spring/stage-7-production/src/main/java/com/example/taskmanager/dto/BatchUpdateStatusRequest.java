@@ -0,0 +1,20 @@
+package com.example.taskmanager.dto;
+
+import com.example.taskmanager.model.TaskStatus;
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * One item of PATCH /api/tasks/batch/status.
+ *
+ * Same as UpdateStatusRequest, plus the id that is in the URL for the
+ * single-task endpoint.
+ */
+public record BatchUpdateStatusRequest(
+
+    @NotNull(message = "Id is required")
+    Long id,
+
+    @NotNull(message = "Status is required")
+    TaskStatus status
+
+) {}
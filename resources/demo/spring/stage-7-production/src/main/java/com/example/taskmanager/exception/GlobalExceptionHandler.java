@@ -3,12 +3,17 @@ package com.example.taskmanager.exception;
 import com.example.taskmanager.dto.ErrorResponse;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.validation.method.ParameterErrors;
+import org.springframework.validation.method.ParameterValidationResult;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.HandlerMethodValidationException;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * Global Exception Handler.
@@ -53,6 +58,45 @@ public class GlobalExceptionHandler {
         return new ErrorResponse("VALIDATION_ERROR", "Validation failed", fieldErrors);
     }
 
+    /**
+     * Handle validation errors of a List body (the /batch endpoints).
+     * Returns 400 Bad Request with one detail per bad field of every item.
+     *
+     * Constraints on a method parameter itself, such as
+     * List<@Valid CreateTaskRequest> with @Size, are checked by Spring's
+     * method validation. That reports HandlerMethodValidationException,
+     * with one result per invalid list element, instead of
+     * MethodArgumentNotValidException. Fields are named by their position,
+     * e.g. "[3].title", or "[3]" for a null item.
+     */
+    @ExceptionHandler(HandlerMethodValidationException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public ErrorResponse handleMethodValidationErrors(HandlerMethodValidationException ex) {
+        List<ErrorResponse.FieldError> fieldErrors = ex.getAllValidationResults()
+                .stream()
+                .flatMap(GlobalExceptionHandler::toFieldErrors)
+                .toList();
+
+        return new ErrorResponse("VALIDATION_ERROR", "Validation failed", fieldErrors);
+    }
+
+    private static Stream<ErrorResponse.FieldError> toFieldErrors(ParameterValidationResult result) {
+        // Errors inside one list element
+        if (result instanceof ParameterErrors errors && result.getContainerIndex() != null) {
+            return errors.getFieldErrors().stream()
+                    .map(error -> new ErrorResponse.FieldError(
+                            "[" + result.getContainerIndex() + "]." + error.getField(),
+                            error.getDefaultMessage()
+                    ));
+        }
+        // A list element itself (e.g. null), or the parameter as a whole (e.g. an empty list)
+        String field = result.getContainerIndex() != null
+                ? "[" + result.getContainerIndex() + "]"
+                : result.getMethodParameter().getParameterName();
+        return result.getResolvableErrors().stream()
+                .map(error -> new ErrorResponse.FieldError(field, error.getDefaultMessage()));
+    }
+
     /**
      * Handle malformed JSON or invalid enum values.
      * Returns 400 Bad Request.
@@ -80,6 +124,19 @@ public class GlobalExceptionHandler {
         return new ErrorResponse("BAD_REQUEST", ex.getMessage());
     }
 
+    /**
+     * Handle "no database connection within connection-timeout".
+     * Returns 503 Service Unavailable.
+     *
+     * The connection pool is the concurrency limit: under overload a
+     * quick 503 the client can retry is better than requests piling up.
+     */
+    @ExceptionHandler(CannotCreateTransactionException.class)
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    public ErrorResponse handleNoConnection(CannotCreateTransactionException ex) {
+        return new ErrorResponse("SERVICE_UNAVAILABLE", "Server is busy, please retry");
+    }
+
     /**
      * Handle all other unexpected errors.
      * Returns 500 Internal Server Error.
@@ -2,10 +2,16 @@ package com.example.taskmanager.repository;
 
 import com.example.taskmanager.model.Task;
 import com.example.taskmanager.model.TaskStatus;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
 
 @Repository
 public interface TaskRepository extends JpaRepository<Task, Long> {
@@ -15,4 +21,28 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
     List<Task> findAllByOrderByCreatedAtDesc();
 
     List<Task> findByStatusOrderByCreatedAtDesc(TaskStatus status);
+
+    /*
+     * =====================================================
+     * STREAMING QUERIES
+     * =====================================================
+     * A Stream is backed by an open JDBC ResultSet: rows are read from
+     * the driver as the stream is consumed, FETCH_SIZE at a time, instead
+     * of all at once into a List.
+     *
+     * - Must be consumed inside a transaction and closed (try-with-resources)
+     * - READ_ONLY: no snapshot for dirty checking is kept per entity
+     */
+
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
+    Stream<Task> streamAllByOrderByCreatedAtDesc();
+
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
+    Stream<Task> streamByStatusOrderByCreatedAtDesc(TaskStatus status);
 }
@@ -4,10 +4,17 @@ import com.example.taskmanager.exception.TaskNotFoundException;
 import com.example.taskmanager.model.Task;
 import com.example.taskmanager.model.TaskStatus;
 import com.example.taskmanager.repository.TaskRepository;
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /**
  * Business logic layer.
@@ -21,9 +28,15 @@ import java.util.List;
 public class TaskService {
 
     private final TaskRepository taskRepository;
+    private final EntityManager entityManager;
+    private final int batchSize;
 
-    public TaskService(TaskRepository taskRepository) {
+    public TaskService(TaskRepository taskRepository,
+                       EntityManager entityManager,
+                       @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}") int batchSize) {
         this.taskRepository = taskRepository;
+        this.entityManager = entityManager;
+        this.batchSize = batchSize;
     }
 
     public Task createTask(String title, String description) {
@@ -31,6 +44,23 @@ public class TaskService {
         return taskRepository.save(task);
     }
 
+    /**
+     * Saves all tasks in ONE transaction: all of them or none.
+     *
+     * Inserts go out in JDBC batches of batchSize. After each chunk the
+     * persistence context is flushed and cleared, so memory stays flat
+     * for big imports. The returned tasks have their ids but are detached.
+     */
+    public List<Task> createTasks(List<Task> tasks) {
+        List<Task> saved = new ArrayList<>(tasks.size());
+        for (int from = 0; from < tasks.size(); from += batchSize) {
+            saved.addAll(taskRepository.saveAll(tasks.subList(from, Math.min(from + batchSize, tasks.size()))));
+            entityManager.flush();
+            entityManager.clear();
+        }
+        return saved;
+    }
+
     @Transactional(readOnly = true)
     public List<Task> getAllTasks() {
         return taskRepository.findAllByOrderByCreatedAtDesc();
@@ -48,6 +78,30 @@ public class TaskService {
         return taskRepository.save(task);
     }
 
+    /**
+     * Sets the status of many tasks in ONE transaction.
+     *
+     * Tasks are loaded batchSize ids at a time (one SELECT ... IN per
+     * chunk), and the changed ones are written back in JDBC batches.
+     * Unknown ids are skipped, not an error: the result simply has no
+     * entry for them.
+     *
+     * @return the updated tasks by id
+     */
+    public Map<Long, Task> updateTaskStatuses(Map<Long, TaskStatus> newStatuses) {
+        List<Long> ids = List.copyOf(newStatuses.keySet());
+        Map<Long, Task> updated = new HashMap<>();
+        for (int from = 0; from < ids.size(); from += batchSize) {
+            for (Task task : taskRepository.findAllById(ids.subList(from, Math.min(from + batchSize, ids.size())))) {
+                task.setStatus(newStatuses.get(task.getId()));
+                updated.put(task.getId(), task);
+            }
+            entityManager.flush();
+            entityManager.clear();
+        }
+        return updated;
+    }
+
     public Task updateTask(Long id, String title, String description) {
         Task task = getTaskById(id);
 
@@ -69,4 +123,27 @@ public class TaskService {
     public List<Task> getTasksByStatus(TaskStatus status) {
         return taskRepository.findByStatusOrderByCreatedAtDesc(status);
     }
+
+    /**
+     * Hands every task (newest first, optionally filtered by status) to
+     * the consumer, one at a time, without building a List.
+     *
+     * The stream, and with it the database cursor, only lives inside this
+     * read-only transaction, so the consumer must do its work (e.g. write
+     * JSON) before returning. Each task is detached once consumed: the
+     * persistence context stays empty however many rows are read.
+     *
+     * @param status null for all tasks
+     */
+    @Transactional(readOnly = true)
+    public void forEachTask(TaskStatus status, Consumer<Task> consumer) {
+        try (Stream<Task> tasks = status == null
+                ? taskRepository.streamAllByOrderByCreatedAtDesc()
+                : taskRepository.streamByStatusOrderByCreatedAtDesc(status)) {
+            tasks.forEach(task -> {
+                consumer.accept(task);
+                entityManager.detach(task);
+            });
+        }
+    }
 }